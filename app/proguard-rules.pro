@@ -15,3 +15,15 @@
 #-keepclassmembers class fqcn.of.javascript.interface.for.webview {
 #   public *;
 #}
+
+# Debug logging is compiled out of release builds. Strip the calls, and the argument
+# evaluation they leave behind, when minification is on.
+-assumenosideeffects class ca.chrisbarrett.bubblecount.util.Logger {
+    public static void d(...);
+}
+
+# The core module logs through CoreLogger, whose debug messages are only dropped at run time
+# by AndroidLogSink. Strip those calls, and their boxed arguments, the same way.
+-assumenosideeffects class ca.chrisbarrett.bubblecount.core.CoreLogger {
+    public static void d(...);
+}
@@ -0,0 +1,43 @@
+package ca.chrisbarrett.bubblecount;
+
+import android.support.test.rule.ActivityTestRule;
+import android.support.test.runner.AndroidJUnit4;
+import android.test.suitebuilder.annotation.LargeTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import ca.chrisbarrett.bubblecount.view.GameView;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Runs the {@link GameView} with allocation tracking turned on and checks that, once a round is
+ * under way, drawing and updating frames makes no heap allocations. The test is reported as
+ * skipped on devices whose runtime does not report the bytes it has allocated.
+ */
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class GameViewAllocationTest {
+
+    private static final long WARM_UP_MILLIS = 1000;
+    private static final long MEASURE_MILLIS = 2000;
+
+    @Rule
+    public ActivityTestRule<GameActivity> activityRule = new ActivityTestRule<>(GameActivity.class);
+
+    @Test
+    public void steadyStateFrames_doNotAllocate () throws Exception {
+        GameView gameView = activityRule.getActivity().getGameView();
+        assertNotNull("The game is not drawn by a GameView", gameView);
+        assumeTrue("The runtime does not report the bytes allocated", gameView.isAllocationCountAvailable());
+        gameView.setAllocationTracking(true);
+        Thread.sleep(WARM_UP_MILLIS);
+        gameView.resetAllocationStats();
+        Thread.sleep(MEASURE_MILLIS);
+        assertTrue("No frames were tracked", gameView.getTrackedFrames() > 0);
+        assertEquals("Steady state frames allocated bytes", 0, gameView.getMaxFrameAllocatedBytes());
+    }
+}
@@ -9,16 +9,20 @@ import android.os.Bundle;
 import android.preference.PreferenceManager;
 import android.support.v7.app.AppCompatActivity;
 import android.util.Log;
+import android.view.View;
 import android.widget.Toast;
 
 import ca.chrisbarrett.bubblecount.dao.Database;
 import ca.chrisbarrett.bubblecount.dao.model.GameResult;
 import ca.chrisbarrett.bubblecount.service.BackgroundMusicManager;
 import ca.chrisbarrett.bubblecount.util.GlobalContext;
+import ca.chrisbarrett.bubblecount.view.GameScreen;
 import ca.chrisbarrett.bubblecount.view.GameView;
+import ca.chrisbarrett.bubblecount.view.GlGameView;
 
 /**
- * A helper Activity that starts and stops the {@link ca.chrisbarrett.bubblecount.view.GameView;}
+ * A helper Activity that starts and stops the {@link ca.chrisbarrett.bubblecount.view.GameView;}, or
+ * the {@link ca.chrisbarrett.bubblecount.view.GlGameView} when the OpenGL preference is set.
  *
  * @author Chris Barrett
  * @see android.support.v7.app.AppCompatActivity
@@ -32,7 +36,7 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
 
     private static boolean isContinueMusic;
     private boolean isMusicOn;
-    private GameView gameView;
+    private GameScreen gameScreen;
 
     //
     // LifeCycles Events Begin Here
@@ -41,10 +45,13 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
     @Override
     protected void onCreate (Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        gameView = new GameView(this);
+        boolean isOpenGl = PreferenceManager.getDefaultSharedPreferences(this).
+                getBoolean(getString(R.string.pref_renderer_opengl_key),
+                        getResources().getBoolean(R.bool.pref_renderer_opengl_default));
+        gameScreen = isOpenGl ? new GlGameView(this) : new GameView(this);
         GlobalContext gc = GlobalContext.getInstance();
         gc.initialize(getApplicationContext());
-        setContentView(gameView);
+        setContentView((View) gameScreen);
         MUSIC_MANAGER.setOnBackgroundMusicListener(this);
     }
 
@@ -52,7 +59,7 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
     protected void onResume () {
         super.onResume();
         isContinueMusic = false;
-        gameView.onResume();
+        gameScreen.onResume();
         MUSIC_MANAGER.initialize(this, R.raw.background);
         isMusicOn = PreferenceManager.getDefaultSharedPreferences(this).
                 getBoolean(getString(R.string.pref_music_is_on_key),
@@ -63,7 +70,7 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
     @Override
     protected void onPause () {
         super.onPause();
-        gameView.onPause();
+        gameScreen.onPause();
         if (!isContinueMusic) {
             Log.i(TAG, "onPause called and releasing MUSIC_MANAGER.");
             MUSIC_MANAGER.musicRelease();
@@ -81,6 +88,15 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
         super.onBackPressed();
     }
 
+    /**
+     * Gets the GameView hosted by this Activity. Used by instrumentation tests.
+     *
+     * @return the GameView, or null if the game is drawn by a GlGameView
+     */
+    GameView getGameView () {
+        return gameScreen instanceof GameView ? (GameView) gameScreen : null;
+    }
+
     //
     // Listeners begin here
     //
@@ -101,10 +117,10 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
      * {@inheritDoc}
      */
     @Override
-    public void onGameEnd (long gameId, long time) {
+    public void onGameEnd (long gameId, long time, long seed) {
         Log.d(TAG, "Received notification game is done. Total time: " + time);
         Toast.makeText(this, String.format("Total time: %d seconds", time / 1000), Toast.LENGTH_SHORT).show();
-        new SaveTimeToDatabase().execute(gameId, time);
+        new SaveTimeToDatabase().execute(gameId, time, seed);
         isContinueMusic = true;
         setResult(Activity.RESULT_OK);
         finish();
@@ -127,11 +143,12 @@ public class GameActivity extends AppCompatActivity implements GameView.OnGameVi
         protected Boolean doInBackground (Long... params) {
             long gameId = params[0];
             long time = params[1];
+            long seed = params[2];
             Log.d(TAG, "doInBackground called with time: " + time);
             SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
             long defaultPlayerId = getResources().getInteger(R.integer.pref_player_selector_default_value);
             long playerId = Long.valueOf(sharedPreferences.getString(getResources().getString(R.string.pref_player_selector_key), "" + defaultPlayerId));
-            GameResult gameResult = new GameResult(time, playerId, gameId);
+            GameResult gameResult = new GameResult(time, playerId, gameId, seed);
             Log.d(TAG, "Attempting to save: "+gameResult.toString());
             Database db = new Database(context);
             try {
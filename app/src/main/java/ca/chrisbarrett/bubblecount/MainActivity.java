@@ -12,9 +12,13 @@ import android.widget.Button;
 import android.widget.ToggleButton;
 
 import java.util.Arrays;
+import java.util.Calendar;
 
 import ca.chrisbarrett.bubblecount.dao.Database;
+import ca.chrisbarrett.bubblecount.dao.model.Player;
+import ca.chrisbarrett.bubblecount.game.GameEngine;
 import ca.chrisbarrett.bubblecount.service.BackgroundMusicManager;
+import ca.chrisbarrett.bubblecount.util.GameEngineCache;
 import ca.chrisbarrett.bubblecount.util.GlobalContext;
 import ca.chrisbarrett.bubblecount.util.Values;
 
@@ -45,6 +49,7 @@ public class MainActivity extends AppCompatActivity implements View.OnClickListe
     private boolean isMusicOn;
     private long gameId;
     private long playerId;
+    private int playerAge = GameEngine.DEFAULT_AGE;
     private AdapterView.OnItemClickListener dialogListener = new AdapterView.OnItemClickListener() {
         @Override
         public void onItemClick (AdapterView<?> parent, View view, int position, long id) {
@@ -82,6 +87,9 @@ public class MainActivity extends AppCompatActivity implements View.OnClickListe
         MUSIC_MANAGER.initialize(this, R.raw.background);
         db = new Database(this).open();
         getPreferences();
+        playerAge = loadPlayerAge();
+        // the player may have changed in the settings, so the engines are warmed for their age
+        GameEngineCache.warm(playerAge);
         if (isMusicToggleAvailable) {
             Log.d(TAG, "Music Toggle is set to on.");
             toggleMusic.setChecked(isMusicOn);
@@ -164,6 +172,7 @@ public class MainActivity extends AppCompatActivity implements View.OnClickListe
                 intent = new Intent(this, GameActivity.class);
                 intent.putExtra(Values.Extra.GAME_ID_SELECTOR, gameId);
                 intent.putExtra(Values.Extra.PLAYER_ID_SELECTOR, playerId);
+                intent.putExtra(Values.Extra.PLAYER_AGE, playerAge);
                 isContinueMusic = true;
                 startActivityForResult(intent, Values.ResultRequest.ACTIVITY_GAME);
                 break;
@@ -213,6 +222,23 @@ public class MainActivity extends AppCompatActivity implements View.OnClickListe
 
     }
 
+    /**
+     * This method works out the age of the selected player, while the database is open anyway, so
+     * starting a game does not need to query it
+     *
+     * @return the age of the player, or {@link GameEngine#DEFAULT_AGE} if it is not known
+     */
+    protected int loadPlayerAge () {
+        Player player = Database.playerDao.selectPlayerById(playerId);
+        // an unknown id gives an empty Player, with no year of birth
+        if (player.getId() == Player.NO_ID || player.getYearOfBirth() <= 0) {
+            return GameEngine.DEFAULT_AGE;
+        }
+        int age = Calendar.getInstance().get(Calendar.YEAR) - player.getYearOfBirth();
+        // the placeholder Player is born in the future
+        return age < 0 ? GameEngine.DEFAULT_AGE : age;
+    }
+
     /**
      * This method updates the preference for isMusicOn
      */
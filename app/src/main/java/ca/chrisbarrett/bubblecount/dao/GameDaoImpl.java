@@ -4,12 +4,12 @@ import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteConstraintException;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import ca.chrisbarrett.bubblecount.dao.model.Game;
+import ca.chrisbarrett.bubblecount.util.Logger;
 
 /**
  * Created by chrisbarrett on 2016-07-18.
@@ -33,7 +33,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
      */
     @Override
     protected Game cursorToEntity (Cursor cursor) {
-        Log.d(TAG, "cursorToEntity called.");
+        Logger.d(TAG, "cursorToEntity called.");
         Game game = new Game();
         if (cursor != null) {
             game.setId(cursor.getLong(cursor.getColumnIndex(Schema.GameTable._ID)));
@@ -41,7 +41,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
             game.setDisplayName(cursor.getString(cursor.getColumnIndex(Schema.GameTable.COLUMN_DISPLAY_NAME)));
             game.setMinimumAge(cursor.getInt(cursor.getColumnIndex(Schema.GameTable.COLUMN_MINIMUM_AGE)));
         }
-        Log.d(TAG, "Retrieved Game:" + game.toString());
+        Logger.d(TAG, "Retrieved Game:%s", game);
         return game;
     }
 
@@ -50,7 +50,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
      */
     @Override
     public Game selectGameById (long gameId) {
-        Log.d(TAG, "selectGameById attempted to locate gameId: " + gameId);
+        Logger.d(TAG, "selectGameById attempted to locate gameId: %s", gameId);
         final String[] selectionArgs = new String[]{String.valueOf(gameId)};
 
         Game game = new Game();
@@ -64,7 +64,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
             game = cursorToEntity(cursor);
         }
         cursor.close();
-        Log.d(TAG, "Returning: " + game.toString());
+        Logger.d(TAG, "Returning: %s", game);
         return game;
     }
 
@@ -73,7 +73,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
      */
     @Override
     public List<Game> selectAllGames () {
-        Log.d(TAG, "selectAllGames called.");
+        Logger.d(TAG, "selectAllGames called.");
         final String selection = Schema.GameTable._ID + " <> ?";  // skip the "Random" game
         final String[] selectionArgs = new String[]{String.valueOf(1)};
         List<Game> games = new ArrayList<>();
@@ -92,7 +92,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
             } while (cursor.moveToNext());
             cursor.close();
         }
-        Log.d(TAG, "Returning " + games.size() + " Games");
+        Logger.d(TAG, "Returning %s Games", games.size());
         return games;
     }
 
@@ -101,18 +101,18 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
      */
     @Override
     public boolean insertGame (Game... games) {
-        Log.d(TAG, "insertGame attempting to insert " + games.length + " Games.");
+        Logger.d(TAG, "insertGame attempting to insert %s Games.", games.length);
         int insertions = 0;
         for (Game game : games) {
             setContentValues(game);
             try {
                 long id = super.insert(Schema.GameTable.TABLE_NAME, getContentValues());
-                Log.d(TAG, "Inserted Game into id: " + id);
+                Logger.d(TAG, "Inserted Game into id: %s", id);
                 if (id > 0) {
                     ++insertions;
                 }
             } catch (SQLiteConstraintException e) {
-                Log.w("Database", e.getMessage());
+                Logger.w("Database", e.getMessage());
             }
         }
         return games.length == insertions;
@@ -123,7 +123,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
      */
     @Override
     public boolean updateGame (Game game) {
-        Log.d(TAG, "updateGame updating: " + game.toString());
+        Logger.d(TAG, "updateGame updating: %s", game);
         final String[] selectionArgs = new String[]{String.valueOf(game.getId())};
         setContentValues(game);
         try {
@@ -133,7 +133,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
                     SELECT_BY_ID,
                     selectionArgs) > 0;
         } catch (SQLiteConstraintException e) {
-            Log.w("Database", e.getMessage());
+            Logger.w("Database", e.getMessage());
             return false;
         }
     }
@@ -143,7 +143,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
      */
     @Override
     public boolean deleteGameById (long gameId) {
-        Log.d(TAG, "deleteGameById attempted to locate gameId: " + gameId);
+        Logger.d(TAG, "deleteGameById attempted to locate gameId: %s", gameId);
         final String[] selectionArgs = new String[]{String.valueOf(gameId)};
         try {
             return super.delete(
@@ -151,7 +151,7 @@ public class GameDaoImpl extends DbContentProvider implements GameDao {
                     SELECT_BY_ID,
                     selectionArgs) > 0;
         } catch (SQLiteConstraintException e) {
-            Log.w("Database", e.getMessage());
+            Logger.w("Database", e.getMessage());
             return false;
         }
     }
@@ -4,13 +4,13 @@ import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteConstraintException;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import ca.chrisbarrett.bubblecount.dao.model.GameResult;
+import ca.chrisbarrett.bubblecount.util.Logger;
 
 /**
  * Created by chrisbarrett on 2016-07-18.
@@ -37,7 +37,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     protected GameResult cursorToEntity (Cursor cursor) {
-        Log.d(TAG, "cursorToEntity called.");
+        Logger.d(TAG, "cursorToEntity called.");
         GameResult gameResult = new GameResult();
         if (cursor != null) {
             gameResult.setId(cursor.getLong(cursor.getColumnIndex(Schema.GameResultTable._ID)));
@@ -46,8 +46,9 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
             gameResult.setPlayerId(cursor.getInt(cursor.getColumnIndex(Schema.GameResultTable.COLUMN_FK_PLAYER_ID)));
             gameResult.setCreatedOn(new Date(cursor.getLong(cursor.getColumnIndex(Schema.GameResultTable.COLUMN_CREATED_ON))));
             gameResult.setSyncedOn(new Date(cursor.getLong(cursor.getColumnIndex(Schema.GameResultTable.COLUMN_SYNCED_ON))));
+            gameResult.setSeed(cursor.getLong(cursor.getColumnIndex(Schema.GameResultTable.COLUMN_SEED)));
         }
-        Log.d(TAG, "Retrieved Game:" + gameResult.toString());
+        Logger.d(TAG, "Retrieved Game:%s", gameResult);
         return gameResult;
     }
 
@@ -56,7 +57,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public GameResult selectGameResultById (long gameResultId) {
-        Log.d(TAG, "selectGameResultById attempted to locate gameId: " + gameResultId);
+        Logger.d(TAG, "selectGameResultById attempted to locate gameId: %s", gameResultId);
         final String[] selectionArgs = new String[]{String.valueOf(gameResultId)};
 
         GameResult gameResult = new GameResult();
@@ -70,7 +71,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
             gameResult = cursorToEntity(cursor);
         }
         cursor.close();
-        Log.d(TAG, "Returning: " + gameResult.toString());
+        Logger.d(TAG, "Returning: %s", gameResult);
         return gameResult;
     }
 
@@ -79,7 +80,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public List<GameResult> selectGameResultByPlayerId (long playerId) {
-        Log.d(TAG, "selectGameResultByPlayerId called.");
+        Logger.d(TAG, "selectGameResultByPlayerId called.");
         final String[] selectionArgs = new String[]{String.valueOf(playerId)};
         List<GameResult> gameResults = new ArrayList<>();
         cursor = super.query(
@@ -96,7 +97,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
             } while (cursor.moveToNext());
             cursor.close();
         }
-        Log.d(TAG, "Returning " + gameResults.size() + " GameResults.");
+        Logger.d(TAG, "Returning %s GameResults.", gameResults.size());
         return gameResults;
     }
 
@@ -105,7 +106,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public List<GameResult> selectGameResultByGameId (long gameId) {
-        Log.d(TAG, "selectGameResultByGameId called.");
+        Logger.d(TAG, "selectGameResultByGameId called.");
         final String[] selectionArgs = new String[]{String.valueOf(gameId)};
         List<GameResult> gameResults = new ArrayList<>();
         cursor = super.query(
@@ -122,7 +123,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
             } while (cursor.moveToNext());
             cursor.close();
         }
-        Log.d(TAG, "Returning " + gameResults.size() + " GameResults.");
+        Logger.d(TAG, "Returning %s GameResults.", gameResults.size());
         return gameResults;
     }
 
@@ -131,7 +132,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public List<GameResult> selectAllGameResults () {
-        Log.d(TAG, "selectAllGameResults called.");
+        Logger.d(TAG, "selectAllGameResults called.");
         List<GameResult> gameResults = new ArrayList<>();
         cursor = super.query(
                 Schema.GameResultTable.TABLE_NAME,
@@ -146,7 +147,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
             } while (cursor.moveToNext());
             cursor.close();
         }
-        Log.d(TAG, "Returning " + gameResults.size() + " GameResults.");
+        Logger.d(TAG, "Returning %s GameResults.", gameResults.size());
         return gameResults;
     }
 
@@ -155,18 +156,18 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public boolean insertGameResult (GameResult... gameResults) {
-        Log.d(TAG, "insertGame attempting to insert " + gameResults.length + " GameResult.");
+        Logger.d(TAG, "insertGame attempting to insert %s GameResult.", gameResults.length);
         int insertions = 0;
         for (GameResult gameResult : gameResults) {
             setContentValues(gameResult);
             try {
                 long id = super.insert(Schema.GameResultTable.TABLE_NAME, getContentValues());
-                Log.d(TAG, "Inserted GameResult into id: " + id);
+                Logger.d(TAG, "Inserted GameResult into id: %s", id);
                 if (id > 0) {
                     ++insertions;
                 }
             } catch (SQLiteConstraintException e) {
-                Log.w("Database", e.getMessage());
+                Logger.w("Database", e.getMessage());
             }
         }
         return gameResults.length == insertions;
@@ -177,7 +178,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public boolean updateGameResult (GameResult gameResult) {
-        Log.d(TAG, "updateGameResult updating: " + gameResult.toString());
+        Logger.d(TAG, "updateGameResult updating: %s", gameResult);
         final String[] selectionArgs = new String[]{String.valueOf(gameResult.getId())};
         setContentValues(gameResult);
         try {
@@ -187,7 +188,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
                     SELECT_BY_ID,
                     selectionArgs) > 0;
         } catch (SQLiteConstraintException e) {
-            Log.w("Database", e.getMessage());
+            Logger.w("Database", e.getMessage());
             return false;
         }
     }
@@ -197,7 +198,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
      */
     @Override
     public boolean deleteGameResultById (long gameResultId) {
-        Log.d(TAG, "deleteGameResultById attempted to locate gameId: " + gameResultId);
+        Logger.d(TAG, "deleteGameResultById attempted to locate gameId: %s", gameResultId);
         final String[] selectionArgs = new String[]{String.valueOf(gameResultId)};
         try {
             return super.delete(
@@ -205,7 +206,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
                     SELECT_BY_ID,
                     selectionArgs) > 0;
         } catch (SQLiteConstraintException e) {
-            Log.w("Database", e.getMessage());
+            Logger.w("Database", e.getMessage());
             return false;
         }
     }
@@ -221,6 +222,7 @@ public class GameResultDaoImpl extends DbContentProvider implements GameResultDa
         initialValues.put(Schema.GameResultTable.COLUMN_FK_PLAYER_ID, gameResult.getPlayerId());
         initialValues.put(Schema.GameResultTable.COLUMN_FK_GAME_ID, gameResult.getGameId());
         initialValues.put(Schema.GameResultTable.COLUMN_TIME_RESULT, gameResult.getTimeResult());
+        initialValues.put(Schema.GameResultTable.COLUMN_SEED, gameResult.getSeed());
         if (gameResult.getSyncedOn() == null) {
             initialValues.put(Schema.GameResultTable.COLUMN_SYNCED_ON, 0);
         } else {
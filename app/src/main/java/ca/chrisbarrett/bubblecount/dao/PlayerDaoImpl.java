@@ -4,13 +4,13 @@ import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteConstraintException;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import ca.chrisbarrett.bubblecount.dao.model.Player;
+import ca.chrisbarrett.bubblecount.util.Logger;
 
 /**
  * Created by chrisbarrett on 2016-07-18.
@@ -37,7 +37,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
      */
     @Override
     protected Player cursorToEntity (Cursor cursor) {
-        Log.d(TAG, "cursorToEntity called.");
+        Logger.d(TAG, "cursorToEntity called.");
         Player player = new Player();
         if (cursor != null) {
             player.setId(cursor.getLong(cursor.getColumnIndex(Schema.PlayerTable._ID)));
@@ -46,7 +46,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
             player.setCreatedOn(new Date(cursor.getLong(cursor.getColumnIndex(Schema.PlayerTable.COLUMN_CREATED_ON))));
             player.setSyncedOn(new Date(cursor.getLong(cursor.getColumnIndex(Schema.PlayerTable.COLUMN_SYNCED_ON))));
         }
-        Log.d(TAG, "Retrieved Game:" + player.toString());
+        Logger.d(TAG, "Retrieved Game:%s", player);
         return player;
     }
 
@@ -55,7 +55,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
      */
     @Override
     public Player selectPlayerById (long playerId) {
-        Log.d(TAG, "selectPlayerById attempted to locate playerId: " + playerId);
+        Logger.d(TAG, "selectPlayerById attempted to locate playerId: %s", playerId);
         final String[] selectionArgs = new String[]{String.valueOf(playerId)};
 
         Player player = new Player();
@@ -69,7 +69,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
             player = cursorToEntity(cursor);
         }
         cursor.close();
-        Log.d(TAG, "Returning: " + player.toString());
+        Logger.d(TAG, "Returning: %s", player);
         return player;
     }
 
@@ -78,7 +78,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
      */
     @Override
     public List<Player> selectAllPlayers () {
-        Log.d(TAG, "selectAllPlayers called.");
+        Logger.d(TAG, "selectAllPlayers called.");
         final String selection = Schema.PlayerTable._ID + " <> ?";  // skip the "None" player
         final String[] selectionArgs = new String[]{String.valueOf(1)};
         List<Player> players = new ArrayList<>();
@@ -96,7 +96,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
             } while (cursor.moveToNext());
             cursor.close();
         }
-        Log.d(TAG, "Returning " + players.size() + " Players");
+        Logger.d(TAG, "Returning %s Players", players.size());
         return players;
     }
 
@@ -105,18 +105,18 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
      */
     @Override
     public boolean insertPlayer (Player... players) {
-        Log.d(TAG, "insertGame attempting to insert " + players.length + " Players.");
+        Logger.d(TAG, "insertGame attempting to insert %s Players.", players.length);
         int insertions = 0;
         for (Player player : players) {
             setContentValues(player);
             try {
                 long id = super.insert(Schema.PlayerTable.TABLE_NAME, getContentValues());
-                Log.d(TAG, "Inserted Player into id: " + id);
+                Logger.d(TAG, "Inserted Player into id: %s", id);
                 if (id > 0) {
                     ++insertions;
                 }
             } catch (SQLiteConstraintException e) {
-                Log.w("Database", e.getMessage());
+                Logger.w("Database", e.getMessage());
             }
         }
         return players.length == insertions;
@@ -127,7 +127,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
      */
     @Override
     public boolean updatePlayer (Player player) {
-        Log.d(TAG, "updatePlayer updating: " + player.toString());
+        Logger.d(TAG, "updatePlayer updating: %s", player);
         final String[] selectionArgs = new String[]{String.valueOf(player.getId())};
         setContentValues(player);
         try {
@@ -137,7 +137,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
                     SELECT_BY_ID,
                     selectionArgs) > 0;
         } catch (SQLiteConstraintException e) {
-            Log.w("Database", e.getMessage());
+            Logger.w("Database", e.getMessage());
             return false;
         }
     }
@@ -147,7 +147,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
      */
     @Override
     public boolean deletePlayerById (long playerId) {
-        Log.d(TAG, "deletePlayerById attempted to locate gameId: " + playerId);
+        Logger.d(TAG, "deletePlayerById attempted to locate gameId: %s", playerId);
         final String[] selectionArgs = new String[]{String.valueOf(playerId)};
         try {
             return super.delete(
@@ -155,7 +155,7 @@ public class PlayerDaoImpl extends DbContentProvider implements PlayerDao {
                     SELECT_BY_ID,
                     selectionArgs) > 0;
         } catch (SQLiteConstraintException e) {
-            Log.w("Database", e.getMessage());
+            Logger.w("Database", e.getMessage());
             return false;
         }
     }
@@ -13,7 +13,7 @@ public abstract class Schema {
 
     // Package private for enhanced security.
     static final String DB_NAME = "bubble_count";
-    static final int DB_VERSION = 1;
+    static final int DB_VERSION = 2;
 
     // Convenience
     private static final String INTEGER_TYPE = " INTEGER ";
@@ -101,6 +101,7 @@ public abstract class Schema {
         public static final String COLUMN_SYNCED_ON = "synced_on";
         public static final String COLUMN_FK_PLAYER_ID = "fk_player_id";
         public static final String COLUMN_FK_GAME_ID = "fk_game_id";
+        public static final String COLUMN_SEED = "seed";
 
         public static final String[] COLUMNS = new String[]{
                 GameResultTable._ID,
@@ -108,7 +109,8 @@ public abstract class Schema {
                 GameResultTable.COLUMN_CREATED_ON,
                 GameResultTable.COLUMN_SYNCED_ON,
                 GameResultTable.COLUMN_FK_PLAYER_ID,
-                GameResultTable.COLUMN_FK_GAME_ID
+                GameResultTable.COLUMN_FK_GAME_ID,
+                GameResultTable.COLUMN_SEED
         };
 
         static final String GAMERESULT_TABLE_CREATE =
@@ -119,12 +121,18 @@ public abstract class Schema {
                         GameResultTable.COLUMN_SYNCED_ON + INTEGER_TYPE + COMMA_SEP +
                         GameResultTable.COLUMN_FK_PLAYER_ID + INTEGER_TYPE + COMMA_SEP +
                         GameResultTable.COLUMN_FK_GAME_ID + INTEGER_TYPE + COMMA_SEP +
+                        GameResultTable.COLUMN_SEED + INTEGER_TYPE + COMMA_SEP +
                         FOREIGN_KEY + BRACKET_OPEN + GameResultTable.COLUMN_FK_PLAYER_ID + BRACKET_CLOSE +
                         REFERENCES + PlayerTable.TABLE_NAME + BRACKET_OPEN + PlayerTable._ID + BRACKET_CLOSE + COMMA_SEP +
                         FOREIGN_KEY + BRACKET_OPEN + GameResultTable.COLUMN_FK_GAME_ID + BRACKET_CLOSE +
                         REFERENCES + GameTable.TABLE_NAME + BRACKET_OPEN + GameTable._ID + BRACKET_CLOSE +
                         " )";
 
+        // Version 2 added the seed. Results saved before then have a seed of 0.
+        static final String GAMERESULT_TABLE_ADD_SEED =
+                "ALTER TABLE " + GameResultTable.TABLE_NAME + " ADD COLUMN " +
+                        GameResultTable.COLUMN_SEED + INTEGER_TYPE + " DEFAULT 0";
+
         static final String GAMERESULT_TABLE_DELETE =
                 "DROP TABLE IF EXISTS " + GameResultTable.TABLE_NAME;
     }
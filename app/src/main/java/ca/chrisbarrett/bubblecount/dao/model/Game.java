@@ -16,6 +16,8 @@ import android.os.Parcelable;
 public class Game implements Parcelable {
 
     public static final long RANDOM = 1;
+    public static final long COUNT = 2;
+    public static final long ALPHABET = 3;
     public static final long NO_ID = 1;
     @SuppressWarnings("unused")
     public static final Parcelable.Creator<Game> CREATOR = new Parcelable.Creator<Game>() {
@@ -36,12 +36,13 @@ public class GameResult implements Parcelable {
     private Date syncedOn;         // date the Player was created
     private long playerId;           // fk of the Player id who played the game
     private long gameId;             // fk of the Game played
+    private long seed;               // seed the rounds of the game were generated from
 
     /**
      * Default constructor
      */
     public GameResult () {
-        this(NO_ID, -1, null, null, NO_ID, NO_ID);
+        this(NO_ID, -1, null, null, NO_ID, NO_ID, 0);
     }
 
     /**
@@ -52,7 +53,19 @@ public class GameResult implements Parcelable {
      * @param gameId
      */
     public GameResult (long timeResult, long playerId, long gameId) {
-        this(NO_ID, timeResult, Calendar.getInstance().getTime(), null, playerId, gameId);
+        this(timeResult, playerId, gameId, 0);
+    }
+
+    /**
+     * Constructor called with default NO_ID. Date created on will be assigned by the system.
+     *
+     * @param timeResult
+     * @param playerId
+     * @param gameId
+     * @param seed       the seed the rounds of the game were generated from
+     */
+    public GameResult (long timeResult, long playerId, long gameId, long seed) {
+        this(NO_ID, timeResult, Calendar.getInstance().getTime(), null, playerId, gameId, seed);
     }
 
 
@@ -65,14 +78,17 @@ public class GameResult implements Parcelable {
      * @param syncedOn
      * @param playerId
      * @param gameId
+     * @param seed
      */
-    public GameResult (long id, long timeResult, Date createdOn, Date syncedOn, long playerId, long gameId) {
+    public GameResult (long id, long timeResult, Date createdOn, Date syncedOn, long playerId, long gameId,
+                       long seed) {
         this.id = id;
         this.timeResult = timeResult;
         this.createdOn = createdOn;
         this.syncedOn = syncedOn;
         this.playerId = playerId;
         this.gameId = gameId;
+        this.seed = seed;
     }
 
     protected GameResult (Parcel in) {
@@ -84,6 +100,7 @@ public class GameResult implements Parcelable {
         syncedOn = tmpSyncedOn != -1 ? new Date(tmpSyncedOn) : null;
         playerId = in.readLong();
         gameId = in.readLong();
+        seed = in.readLong();
     }
 
     public long getId () {
@@ -134,6 +151,14 @@ public class GameResult implements Parcelable {
         this.gameId = gameId;
     }
 
+    public long getSeed () {
+        return seed;
+    }
+
+    public void setSeed (long seed) {
+        this.seed = seed;
+    }
+
     @Override
     public boolean equals (Object o) {
         if (this == o) return true;
@@ -154,6 +179,7 @@ public class GameResult implements Parcelable {
         result = 31 * result + (syncedOn != null ? syncedOn.hashCode() : 0);
         result = 31 * result + (int) (playerId ^ (playerId >>> 32));
         result = 31 * result + (int) (gameId ^ (gameId >>> 32));
+        result = 31 * result + (int) (seed ^ (seed >>> 32));
         return result;
     }
 
@@ -166,6 +192,7 @@ public class GameResult implements Parcelable {
                 ", syncedOn=" + syncedOn +
                 ", playerId=" + playerId +
                 ", gameId=" + gameId +
+                ", seed=" + seed +
                 '}';
     }
 
@@ -182,6 +209,7 @@ public class GameResult implements Parcelable {
         dest.writeLong(syncedOn != null ? syncedOn.getTime() : -1L);
         dest.writeLong(playerId);
         dest.writeLong(gameId);
+        dest.writeLong(seed);
     }
 
 }
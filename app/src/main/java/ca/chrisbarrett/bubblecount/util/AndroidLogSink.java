@@ -0,0 +1,27 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import android.util.Log;
+
+import ca.chrisbarrett.bubblecount.core.LogSink;
+
+/**
+ * {@link LogSink} writing the core module's messages to {@link Log}. The priorities of a LogSink
+ * are those of Log, so they are passed through unchanged. Debug messages follow
+ * {@link Logger#DEBUG}, so the core module logs exactly what the app does.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.core.CoreLogger
+ * @since Oct 17, 2026
+ */
+public class AndroidLogSink implements LogSink {
+
+    @Override
+    public boolean isLoggable (int priority) {
+        return priority != DEBUG || Logger.DEBUG;
+    }
+
+    @Override
+    public void log (int priority, String tag, String message) {
+        Log.println(priority, tag, message);
+    }
+}
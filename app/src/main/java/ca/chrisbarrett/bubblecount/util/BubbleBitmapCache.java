@@ -0,0 +1,264 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteImage;
+
+/**
+ * Cache of fully rendered bubbles. Each distinct combination of label, sprite sheet frame and
+ * radius is drawn once, bubble and text together, into an offscreen Bitmap sized for the screen.
+ * Labels are drawn from the {@link GlyphAtlas} of a {@link TextBatch}. Drawing a bubble is then a
+ * single Bitmap blit instead of a scaled blit plus text drawing.
+ * <p/>
+ * The cache is bounded by the bytes held in its Bitmaps. When full, the least recently used
+ * bubble is evicted and its Bitmap reused for the new bubble when the sizes match. Lookups compare
+ * primitive keys and do not allocate, so the cache can be used from the per-frame draw path.
+ * The cache is not thread safe and should only be used from the game thread.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpriteImage
+ * @since Oct 17, 2026
+ */
+public class BubbleBitmapCache {
+
+    public static final int DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final SpriteImage spriteImage;
+    private final TextBatch textBatch;
+    private final Paint textPaint;
+    private final Paint drawPaint;
+    private final int maxBytes;
+    private final Canvas offscreen = new Canvas();
+    private final Rect whatToDraw = new Rect();
+    private final RectF whereToDraw = new RectF();
+
+    private String[] labels = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int[] frames = new int[INITIAL_CAPACITY];
+    private float[] radii = new float[INITIAL_CAPACITY];
+    private Bitmap[] bitmaps = new Bitmap[INITIAL_CAPACITY];
+    private long[] lastUsed = new long[INITIAL_CAPACITY];
+    private int size;
+    private int byteCount;
+    private long clock;
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    /**
+     * Constructor
+     *
+     * @param spriteImage the sprite sheet bubbles are drawn from
+     * @param textBatch   the batch used to draw the labels
+     * @param textPaint   the Paint whose colour tints the labels
+     * @param drawPaint   the Paint used for the sprite sheet
+     * @param maxBytes    the maximum number of bytes of Bitmaps to hold
+     */
+    public BubbleBitmapCache (SpriteImage spriteImage, TextBatch textBatch, Paint textPaint,
+                              Paint drawPaint, int maxBytes) {
+        this.spriteImage = spriteImage;
+        this.textBatch = textBatch;
+        this.textPaint = textPaint;
+        this.drawPaint = drawPaint;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the rendered bubble, drawing it first if it is not cached
+     *
+     * @param label  the text on the bubble
+     * @param frame  the sprite sheet frame
+     * @param radius the radius the bubble is drawn at
+     * @return a Bitmap, 2 * radius pixels square, holding the bubble and its label
+     */
+    public Bitmap get (String label, int frame, float radius) {
+        int hash = hash(label, frame, radius);
+        clock++;
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == hash && frames[i] == frame && radii[i] == radius
+                    && (labels[i] == label || labels[i].equals(label))) {
+                lastUsed[i] = clock;
+                hitCount++;
+                return bitmaps[i];
+            }
+        }
+        missCount++;
+        return put(label, hash, frame, radius);
+    }
+
+    /**
+     * Gets the portion of a cached bubble to display, squished the same way the
+     * {@link ca.chrisbarrett.bubblecount.view.game.model.FrameTable} squishes a sprite sheet frame
+     *
+     * @param squish     pixels of the sheet frame to narrow and heighten by
+     * @param radius     the radius the bubble was cached at
+     * @param whatToDraw receives the source rectangle
+     */
+    public void getWhatToDraw (int squish, float radius, Rect whatToDraw) {
+        int side = sideOf(radius);
+        int offset = squish * side / spriteImage.getFrameWidth();
+        whatToDraw.set(offset, -offset, side - offset, side + offset);
+    }
+
+    /**
+     * Removes every bubble and releases its Bitmap
+     */
+    public void evictAll () {
+        for (int i = 0; i < size; i++) {
+            bitmaps[i].recycle();
+            bitmaps[i] = null;
+            labels[i] = null;
+        }
+        evictionCount += size;
+        size = 0;
+        byteCount = 0;
+    }
+
+    public int getByteCount () {
+        return byteCount;
+    }
+
+    public int getMaxBytes () {
+        return maxBytes;
+    }
+
+    public int getHitCount () {
+        return hitCount;
+    }
+
+    public int getMissCount () {
+        return missCount;
+    }
+
+    public int getEvictionCount () {
+        return evictionCount;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to render a bubble and add it, evicting older bubbles to stay within the byte
+     * budget
+     *
+     * @return the rendered Bitmap
+     */
+    private Bitmap put (String label, int hash, int frame, float radius) {
+        int side = sideOf(radius);
+        int bytes = side * side * 4;
+        Bitmap bitmap = null;
+        while (size > 0 && byteCount + bytes > maxBytes) {
+            Bitmap evicted = evictEldest();
+            if (bitmap == null && evicted.getWidth() == side && evicted.getHeight() == side) {
+                bitmap = evicted;
+            } else {
+                evicted.recycle();
+            }
+        }
+        if (bitmap == null) {
+            bitmap = Bitmap.createBitmap(side, side, Bitmap.Config.ARGB_8888);
+        } else {
+            bitmap.eraseColor(Color.TRANSPARENT);
+        }
+        render(bitmap, label, frame, side);
+
+        if (size == labels.length) {
+            grow();
+        }
+        labels[size] = label;
+        hashes[size] = hash;
+        frames[size] = frame;
+        radii[size] = radius;
+        bitmaps[size] = bitmap;
+        lastUsed[size] = clock;
+        size++;
+        byteCount += bytes;
+        return bitmap;
+    }
+
+    /**
+     * Helper method to draw the sprite sheet frame and the label into a Bitmap
+     */
+    private void render (Bitmap bitmap, String label, int frame, int side) {
+        offscreen.setBitmap(bitmap);
+        spriteImage.getWhatToDraw(frame, whatToDraw);
+        whereToDraw.set(0, 0, side, side);
+        offscreen.drawBitmap(spriteImage.getImage(), whatToDraw, whereToDraw, drawPaint);
+        GlyphAtlas atlas = textBatch.getAtlas();
+        textBatch.begin();
+        textBatch.add(label, side / 2f, side / 2f - (atlas.getAscent() + atlas.getDescent()) / 2f);
+        textBatch.flush(offscreen, textPaint);
+        offscreen.setBitmap(null);
+    }
+
+    /**
+     * Helper method to remove the least recently used bubble. The last entry is moved into the
+     * freed slot.
+     *
+     * @return the Bitmap of the evicted bubble, which the caller must reuse or recycle
+     */
+    private Bitmap evictEldest () {
+        int eldest = 0;
+        for (int i = 1; i < size; i++) {
+            if (lastUsed[i] < lastUsed[eldest]) {
+                eldest = i;
+            }
+        }
+        Bitmap evicted = bitmaps[eldest];
+        byteCount -= evicted.getWidth() * evicted.getHeight() * 4;
+        evictionCount++;
+        int last = --size;
+        labels[eldest] = labels[last];
+        hashes[eldest] = hashes[last];
+        frames[eldest] = frames[last];
+        radii[eldest] = radii[last];
+        bitmaps[eldest] = bitmaps[last];
+        lastUsed[eldest] = lastUsed[last];
+        labels[last] = null;
+        bitmaps[last] = null;
+        return evicted;
+    }
+
+    /**
+     * Helper method to double the number of entries that can be held
+     */
+    private void grow () {
+        int capacity = labels.length * 2;
+        String[] newLabels = new String[capacity];
+        int[] newHashes = new int[capacity];
+        int[] newFrames = new int[capacity];
+        float[] newRadii = new float[capacity];
+        Bitmap[] newBitmaps = new Bitmap[capacity];
+        long[] newLastUsed = new long[capacity];
+        System.arraycopy(labels, 0, newLabels, 0, size);
+        System.arraycopy(hashes, 0, newHashes, 0, size);
+        System.arraycopy(frames, 0, newFrames, 0, size);
+        System.arraycopy(radii, 0, newRadii, 0, size);
+        System.arraycopy(bitmaps, 0, newBitmaps, 0, size);
+        System.arraycopy(lastUsed, 0, newLastUsed, 0, size);
+        labels = newLabels;
+        hashes = newHashes;
+        frames = newFrames;
+        radii = newRadii;
+        bitmaps = newBitmaps;
+        lastUsed = newLastUsed;
+    }
+
+    private static int hash (String label, int frame, float radius) {
+        int result = label.hashCode();
+        result = 31 * result + frame;
+        result = 31 * result + Float.floatToIntBits(radius);
+        return result;
+    }
+
+    private static int sideOf (float radius) {
+        return (int) Math.ceil(radius * 2);
+    }
+}
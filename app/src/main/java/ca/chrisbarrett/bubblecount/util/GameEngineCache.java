@@ -0,0 +1,56 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import ca.chrisbarrett.bubblecount.dao.model.Game;
+import ca.chrisbarrett.bubblecount.game.AlphabetGameEngine;
+import ca.chrisbarrett.bubblecount.game.CountGameEngine;
+import ca.chrisbarrett.bubblecount.game.GameEngine;
+import ca.chrisbarrett.bubblecount.game.GameEngineFactory;
+import ca.chrisbarrett.bubblecount.game.GameEngineRegistry;
+
+/**
+ * Utility class that holds the {@link GameEngineRegistry} of every game in the database, keyed by
+ * the ids of the {@link Game}s. The engines are created by their constructors, so they survive
+ * minification and a game starts without a class loader or a database query.
+ * <p/>
+ * {@link #warm(int)} is called when the app starts, and whenever the player may have changed.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.game.GameEngineRegistry
+ * @since Oct 17, 2026
+ */
+public final class GameEngineCache {
+
+    private static final String TAG = "GameEngineCache";
+    private static final GameEngineRegistry REGISTRY = new GameEngineRegistry()
+            .register(Game.COUNT, new GameEngineFactory() {
+                @Override
+                public GameEngine create (int age) {
+                    return new CountGameEngine(age);
+                }
+            })
+            .register(Game.ALPHABET, new GameEngineFactory() {
+                @Override
+                public GameEngine create (int age) {
+                    return new AlphabetGameEngine(age);
+                }
+            });
+
+    private GameEngineCache () {
+    }
+
+    public static GameEngineRegistry getRegistry () {
+        return REGISTRY;
+    }
+
+    /**
+     * Loads every engine and builds its questions for a player ahead of the first game
+     *
+     * @param age the age of the player
+     */
+    public static void warm (int age) {
+        long start = System.nanoTime();
+        REGISTRY.warm(age);
+        Logger.d(TAG, "Warmed %d GameEngines for age %d in %d us", REGISTRY.size(), age,
+                (System.nanoTime() - start) / 1000);
+    }
+}
@@ -0,0 +1,168 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+/**
+ * A single alpha-only Bitmap holding every glyph the game displays, rendered once from the
+ * typeface and size of a Paint. Text is then drawn as one Bitmap blit per glyph, tinted by the
+ * colour of the Paint used for the blit, without shaping text through the typeface again.
+ * <p/>
+ * Glyphs are laid out left to right in equally tall cells with a little padding so antialiased
+ * edges do not bleed into their neighbours. Kerning is not applied.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.util.TextBatch
+ * @since Oct 17, 2026
+ */
+public class GlyphAtlas {
+
+    public static final String DEFAULT_CHARACTERS =
+            " ?,.-+=0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int MAX_CHARACTER = 128;
+    private static final int MAX_WIDTH = 1024;
+    private static final int PADDING = 2;
+
+    private final Bitmap image;
+    private final int[] sourceLeft = new int[MAX_CHARACTER];
+    private final int[] sourceTop = new int[MAX_CHARACTER];
+    private final int[] sourceWidth = new int[MAX_CHARACTER];
+    private final float[] advance = new float[MAX_CHARACTER];
+    private final boolean[] isPresent = new boolean[MAX_CHARACTER];
+    private final int cellHeight;
+    private final float ascent;
+    private final float descent;
+
+    /**
+     * Constructor. Renders the glyphs.
+     *
+     * @param paint      the Paint whose typeface and text size are used. It is not modified
+     * @param characters the characters to include. Only 7 bit ASCII characters are supported
+     */
+    public GlyphAtlas (Paint paint, String characters) {
+        Paint glyphPaint = new Paint(paint);
+        glyphPaint.setTextAlign(Paint.Align.LEFT);
+        glyphPaint.setColor(Color.WHITE);
+        ascent = glyphPaint.ascent();
+        descent = glyphPaint.descent();
+        cellHeight = (int) Math.ceil(descent - ascent) + PADDING * 2;
+
+        // lay the cells out in rows no wider than MAX_WIDTH
+        int x = 0;
+        int y = 0;
+        int width = 0;
+        for (int i = 0; i < characters.length(); i++) {
+            char c = characters.charAt(i);
+            if (c >= MAX_CHARACTER || isPresent[c]) {
+                continue;
+            }
+            advance[c] = glyphPaint.measureText(characters, i, i + 1);
+            int cellWidth = (int) Math.ceil(advance[c]) + PADDING * 2;
+            if (x + cellWidth > MAX_WIDTH && x > 0) {
+                x = 0;
+                y += cellHeight;
+            }
+            sourceLeft[c] = x;
+            sourceTop[c] = y;
+            sourceWidth[c] = cellWidth;
+            isPresent[c] = true;
+            x += cellWidth;
+            width = Math.max(width, x);
+        }
+
+        image = Bitmap.createBitmap(Math.max(1, width), y + cellHeight, Bitmap.Config.ALPHA_8);
+        Canvas canvas = new Canvas(image);
+        for (int i = 0; i < characters.length(); i++) {
+            char c = characters.charAt(i);
+            if (c < MAX_CHARACTER) {
+                canvas.drawText(characters, i, i + 1, sourceLeft[c] + PADDING,
+                        sourceTop[c] + PADDING - ascent, glyphPaint);
+            }
+        }
+    }
+
+    public Bitmap getImage () {
+        return image;
+    }
+
+    /**
+     * Checks whether a character is in the atlas
+     *
+     * @param c the character
+     * @return true if the character can be drawn from the atlas
+     */
+    public boolean contains (char c) {
+        return c < MAX_CHARACTER && isPresent[c];
+    }
+
+    /**
+     * Gets how far the pen moves after drawing a character
+     *
+     * @param c the character, which must be in the atlas
+     * @return the advance in pixels
+     */
+    public float getAdvance (char c) {
+        return advance[c];
+    }
+
+    /**
+     * Measures a line of text as it will be drawn from the atlas. Characters not in the atlas are
+     * skipped.
+     *
+     * @param text the text
+     * @return the width in pixels
+     */
+    public float measure (String text) {
+        float width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (contains(c)) {
+                width += advance[c];
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Gets the portion of the atlas holding a character
+     *
+     * @param c      the character, which must be in the atlas
+     * @param source receives the rectangle of the character's cell
+     */
+    public void getSource (char c, Rect source) {
+        source.set(sourceLeft[c], sourceTop[c], sourceLeft[c] + sourceWidth[c], sourceTop[c] + cellHeight);
+    }
+
+    /**
+     * Gets the horizontal distance from a character's pen position to the left of its cell
+     *
+     * @return the offset in pixels, always negative or zero
+     */
+    public float getCellLeft () {
+        return -PADDING;
+    }
+
+    /**
+     * Gets the vertical distance from the baseline to the top of a character's cell
+     *
+     * @return the offset in pixels, always negative
+     */
+    public float getCellTop () {
+        return ascent - PADDING;
+    }
+
+    public int getCellHeight () {
+        return cellHeight;
+    }
+
+    public float getAscent () {
+        return ascent;
+    }
+
+    public float getDescent () {
+        return descent;
+    }
+}
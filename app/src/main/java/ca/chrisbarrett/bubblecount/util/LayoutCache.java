@@ -0,0 +1,51 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+import ca.chrisbarrett.bubblecount.view.game.model.BubbleLayout;
+import ca.chrisbarrett.bubblecount.view.game.model.PoissonDiskSampler;
+
+/**
+ * Utility class that generates the {@link BubbleLayout}s for a screen size once and holds them.
+ * Placing the bubbles of a round is then a pick from precomputed positions, taking the same time
+ * every round. The layouts are generated from a seed taken from the screen size, so a screen
+ * size gets the same layouts on every run and rounds can be regenerated from their seed.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.PoissonDiskSampler
+ * @since Oct 17, 2026
+ */
+public final class LayoutCache {
+
+    public static final int LAYOUTS_PER_SIZE = 8;
+    private static final Map<String, BubbleLayout[]> layouts = new HashMap<>();
+
+    private LayoutCache () {
+    }
+
+    /**
+     * If the layouts for the area are not already cached, {@value #LAYOUTS_PER_SIZE} layouts
+     * will be generated
+     *
+     * @param width  the width of the game area
+     * @param height the height of the game area
+     * @param radius the radius of a bubble. Every centre keeps the whole bubble inside the area
+     * @return the layouts
+     */
+    public static synchronized BubbleLayout[] getLayouts (float width, float height, float radius) {
+        String key = (int) width + "x" + (int) height + "@" + radius;
+        BubbleLayout[] cached = layouts.get(key);
+        if (cached == null) {
+            PoissonDiskSampler sampler = new PoissonDiskSampler(width - radius * 2, height - radius * 2,
+                    radius * 2, PoissonDiskSampler.DEFAULT_CANDIDATES, new XoroshiroRandom(key.hashCode()));
+            cached = new BubbleLayout[LAYOUTS_PER_SIZE];
+            for (int i = 0; i < LAYOUTS_PER_SIZE; i++) {
+                cached[i] = new BubbleLayout(sampler, sampler.sample(Integer.MAX_VALUE), radius);
+            }
+            layouts.put(key, cached);
+        }
+        return cached;
+    }
+}
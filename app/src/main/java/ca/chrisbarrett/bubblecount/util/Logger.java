@@ -0,0 +1,99 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import android.util.Log;
+
+import ca.chrisbarrett.bubblecount.BuildConfig;
+
+/**
+ * Logging facade over {@link Log}. Messages are given as a {@link String#format(String, Object...)}
+ * pattern and up to three arguments; the message is only formatted, and the arguments' toString()
+ * only called, if the level is enabled. Pass objects rather than strings built from them, so
+ * nothing is concatenated for a disabled level.
+ * <p/>
+ * Debug messages are only enabled when {@link BuildConfig#DEBUG} is. As that is a compile time
+ * constant, the debug methods compile to an empty body in release builds, and ProGuard removes the
+ * calls altogether through the rule in proguard-rules.pro. Code building its arguments with more
+ * than a field read can be wrapped in <code>if (Logger.DEBUG)</code>, which javac drops from
+ * release builds. Info, warning and error messages are always enabled.
+ * <p/>
+ * The fixed arity overloads avoid allocating a varargs array for each call. Primitive arguments
+ * are still boxed at the call site.
+ *
+ * @author Chris Barrett
+ * @see android.util.Log
+ * @since Oct 17, 2026
+ */
+public final class Logger {
+
+    public static final boolean DEBUG = BuildConfig.DEBUG;
+
+    private Logger () {
+    }
+
+    public static void d (String tag, String message) {
+        if (DEBUG) {
+            Log.d(tag, message);
+        }
+    }
+
+    public static void d (String tag, String format, Object arg) {
+        if (DEBUG) {
+            Log.d(tag, String.format(format, arg));
+        }
+    }
+
+    public static void d (String tag, String format, Object arg1, Object arg2) {
+        if (DEBUG) {
+            Log.d(tag, String.format(format, arg1, arg2));
+        }
+    }
+
+    public static void d (String tag, String format, Object arg1, Object arg2, Object arg3) {
+        if (DEBUG) {
+            Log.d(tag, String.format(format, arg1, arg2, arg3));
+        }
+    }
+
+    public static void i (String tag, String message) {
+        Log.i(tag, message);
+    }
+
+    public static void i (String tag, String format, Object arg) {
+        Log.i(tag, String.format(format, arg));
+    }
+
+    public static void i (String tag, String format, Object arg1, Object arg2) {
+        Log.i(tag, String.format(format, arg1, arg2));
+    }
+
+    public static void w (String tag, String message) {
+        Log.w(tag, message);
+    }
+
+    public static void w (String tag, String format, Object arg) {
+        Log.w(tag, String.format(format, arg));
+    }
+
+    public static void w (String tag, String format, Object arg1, Object arg2) {
+        Log.w(tag, String.format(format, arg1, arg2));
+    }
+
+    public static void e (String tag, String message) {
+        Log.e(tag, message);
+    }
+
+    public static void e (String tag, String format, Object arg) {
+        Log.e(tag, String.format(format, arg));
+    }
+
+    /**
+     * Logs an error with the stack trace of what caused it
+     *
+     * @param tag       identifies the source of the message
+     * @param message   the message
+     * @param throwable the cause
+     */
+    public static void e (String tag, String message, Throwable throwable) {
+        Log.e(tag, message, throwable);
+    }
+}
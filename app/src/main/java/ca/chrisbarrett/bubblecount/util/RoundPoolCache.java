@@ -0,0 +1,44 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import ca.chrisbarrett.bubblecount.view.game.model.RoundPool;
+
+/**
+ * Utility class that holds the {@link RoundPool} for the screen the game is played on. Games
+ * played one after another on the same screen share the pool, so a new game reuses the Rounds of
+ * the last one instead of allocating its own.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.RoundPool
+ * @since Oct 17, 2026
+ */
+public final class RoundPoolCache {
+
+    private static RoundPool pool;
+
+    private RoundPoolCache () {
+    }
+
+    /**
+     * If the cached pool holds Rounds of a different size, or has a different size itself, it is
+     * cleared and replaced
+     *
+     * @param size           the most free Rounds kept
+     * @param maxSprites     the most bubbles in a round
+     * @param width          the width of the game area
+     * @param gameAreaHeight the height of the game area
+     * @param barWidth       the width of the question bar Bitmap
+     * @param barHeight      the height of the question bar Bitmap
+     * @return the pool
+     */
+    public static synchronized RoundPool getPool (int size, int maxSprites, float width,
+                                                  float gameAreaHeight, int barWidth, int barHeight) {
+        if (pool == null || pool.getSize() != size
+                || !pool.matches(maxSprites, width, gameAreaHeight, barWidth, barHeight)) {
+            if (pool != null) {
+                pool.clear();
+            }
+            pool = new RoundPool(size, maxSprites, width, gameAreaHeight, barWidth, barHeight);
+        }
+        return pool;
+    }
+}
@@ -1,35 +1,151 @@
 package ca.chrisbarrett.bubblecount.util;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 
-import ca.chrisbarrett.bubblecount.R;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Utility class that loads the sprites for display.
+ * Utility class that loads the sprites for display. Each sprite sheet is decoded once for every
+ * size and {@link Bitmap.Config} it is asked for, already scaled to exactly the size it is drawn
+ * at, so drawing a frame is an unscaled copy rather than a filtered scale on every frame.
+ * <p/>
+ * Sheets are decoded without the density scaling of their drawable folder, and subsampled while
+ * decoding when they are at least twice the size asked for, so a large sheet is never held at full
+ * size. Sheets without transparency can be held as {@link Bitmap.Config#RGB_565}, at half the
+ * memory of {@link Bitmap.Config#ARGB_8888}.
+ * <p/>
+ * The cache lets go of its sheets when the system is short of memory. Sheets are never recycled,
+ * as a running game may still be drawing them; they are only freed once nothing else holds them.
  *
  * @author Chris Barrett
- * @see
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpriteImage
  * @since Jul 02, 2016
  */
 public final class SpriteCache {
 
-    private static Bitmap bubbleSprite;
+    private static final String TAG = "SpriteCache";
+    private static final Map<String, Bitmap> sprites = new HashMap<>();
+    private static boolean isRegistered;
 
     private SpriteCache () {
     }
 
     /**
-     * If the Bubble sprite is not already cached, the Sprite will be loaded from
+     * If the sprite sheet is not already cached at the size and config, it will be loaded and
+     * scaled
      *
      * @param context used for calling
-     * @return the Bubble sprite
+     * @param resId   the drawable resource of the sheet
+     * @param width   the width the whole sheet is drawn at, in pixels
+     * @param height  the height the sheet is drawn at, in pixels
+     * @param config  how the pixels are held. Only use {@link Bitmap.Config#RGB_565} for sheets
+     *                without transparency
+     * @return the sprite sheet, exactly width by height pixels
      */
-    public static Bitmap getSprite (Context context) {
-        if (bubbleSprite == null) {
-            bubbleSprite = BitmapFactory.decodeResource(context.getResources(), R.drawable.bubble_sprite);
+    public static synchronized Bitmap getSprite (Context context, int resId, int width, int height,
+                                                 Bitmap.Config config) {
+        String key = resId + "@" + width + "x" + height + "/" + config;
+        Bitmap sprite = sprites.get(key);
+        if (sprite == null) {
+            if (!isRegistered) {
+                context.getApplicationContext().registerComponentCallbacks(new TrimCallbacks());
+                isRegistered = true;
+            }
+            sprite = decode(context, resId, width, height, config);
+            sprites.put(key, sprite);
+            Logger.d(TAG, "Loaded %s, cache holds %d bytes", key, getByteCount());
+        }
+        return sprite;
+    }
+
+    /**
+     * Releases the cached sheets in response to
+     * {@link ComponentCallbacks2#onTrimMemory(int)}. Nothing is released while the app is running
+     * with only moderately low memory.
+     *
+     * @param level the trim level
+     */
+    public static synchronized void trimMemory (int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            Logger.d(TAG, "Trimming at level %d, releasing %d bytes", level, getByteCount());
+            sprites.clear();
+        }
+    }
+
+    /**
+     * Gets the memory held by the cached sheets
+     *
+     * @return the bytes used by the pixels of every cached sheet
+     */
+    public static synchronized int getByteCount () {
+        int bytes = 0;
+        for (Bitmap sprite : sprites.values()) {
+            bytes += sprite.getByteCount();
+        }
+        return bytes;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to decode a sheet and scale it to the exact size
+     */
+    private static Bitmap decode (Context context, int resId, int width, int height,
+                                  Bitmap.Config config) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        options.inScaled = false;
+        BitmapFactory.decodeResource(context.getResources(), resId, options);
+        options.inSampleSize = sampleSize(options.outWidth, options.outHeight, width, height);
+        options.inJustDecodeBounds = false;
+        options.inPreferredConfig = config;
+        Bitmap decoded = BitmapFactory.decodeResource(context.getResources(), resId, options);
+        if (decoded.getWidth() == width && decoded.getHeight() == height) {
+            return decoded;
+        }
+        Bitmap scaled = Bitmap.createScaledBitmap(decoded, width, height, true);
+        if (scaled != decoded) {
+            decoded.recycle();
+        }
+        return scaled;
+    }
+
+    /**
+     * Helper method to find the largest power of two the image can be subsampled by while staying
+     * at least the size it is scaled to
+     */
+    private static int sampleSize (int sourceWidth, int sourceHeight, int width, int height) {
+        int sampleSize = 1;
+        while (sourceWidth / (sampleSize * 2) >= width && sourceHeight / (sampleSize * 2) >= height) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    /**
+     * Releases the cache when the system asks the app to trim its memory
+     */
+    private static class TrimCallbacks implements ComponentCallbacks2 {
+
+        @Override
+        public void onTrimMemory (int level) {
+            trimMemory(level);
+        }
+
+        @Override
+        public void onLowMemory () {
+            trimMemory(TRIM_MEMORY_COMPLETE);
+        }
+
+        @Override
+        public void onConfigurationChanged (Configuration newConfig) {
         }
-        return bubbleSprite;
     }
 }
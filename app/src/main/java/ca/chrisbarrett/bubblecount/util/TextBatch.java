@@ -0,0 +1,151 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * Batched text renderer drawing from a {@link GlyphAtlas}. Text added between {@link #begin()}
+ * and {@link #flush(Canvas, Paint)} is laid out into a flat list of glyph quads, which are then
+ * all emitted in a single pass over the atlas Bitmap. The quads are also available as primitive
+ * arrays for renderers that upload them in one draw call.
+ * <p/>
+ * Adding and flushing text does not allocate. Glyphs beyond the batch capacity are dropped; in
+ * debug builds, the first time that happens is logged as a warning.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.util.GlyphAtlas
+ * @since Oct 17, 2026
+ */
+public class TextBatch {
+
+    private static final String TAG = "TextBatch";
+
+    private final GlyphAtlas atlas;
+    private final float[] left;
+    private final float[] top;
+    private final char[] glyph;
+    private final Rect source = new Rect();
+    private final RectF destination = new RectF();
+    private int count;
+    private boolean isOverflowReported;
+
+    /**
+     * Constructor
+     *
+     * @param atlas     the glyphs to draw with
+     * @param maxGlyphs the number of glyphs the batch can hold
+     */
+    public TextBatch (GlyphAtlas atlas, int maxGlyphs) {
+        this.atlas = atlas;
+        this.left = new float[maxGlyphs];
+        this.top = new float[maxGlyphs];
+        this.glyph = new char[maxGlyphs];
+    }
+
+    /**
+     * Empties the batch
+     */
+    public void begin () {
+        count = 0;
+    }
+
+    /**
+     * Lays out a line of text, horizontally centered the same way as {@link Paint.Align#CENTER}
+     *
+     * @param text     the text to draw
+     * @param centerX  the X coordinate of the centre of the line
+     * @param baseline the Y coordinate of the baseline
+     */
+    public void add (String text, float centerX, float baseline) {
+        float penX = centerX - atlas.measure(text) / 2f;
+        float cellTop = baseline + atlas.getCellTop();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!atlas.contains(c)) {
+                continue;
+            }
+            if (c != ' ') {
+                if (count == glyph.length) {
+                    reportOverflow(text);
+                    return;
+                }
+                left[count] = penX + atlas.getCellLeft();
+                top[count] = cellTop;
+                glyph[count] = c;
+                count++;
+            }
+            penX += atlas.getAdvance(c);
+        }
+    }
+
+    /**
+     * Draws every glyph in the batch, then empties it
+     *
+     * @param canvas the canvas to draw on
+     * @param paint  the Paint whose colour tints the glyphs
+     */
+    public void flush (Canvas canvas, Paint paint) {
+        for (int i = 0; i < count; i++) {
+            atlas.getSource(glyph[i], source);
+            destination.set(left[i], top[i], left[i] + source.width(), top[i] + source.height());
+            canvas.drawBitmap(atlas.getImage(), source, destination, paint);
+        }
+        count = 0;
+    }
+
+    public GlyphAtlas getAtlas () {
+        return atlas;
+    }
+
+    /**
+     * Gets the number of glyph quads in the batch
+     *
+     * @return the number of glyphs
+     */
+    public int getCount () {
+        return count;
+    }
+
+    /**
+     * Gets the left edges of the glyph quads. Only the first {@link #getCount()} values are valid.
+     *
+     * @return the X coordinates
+     */
+    public float[] getLeft () {
+        return left;
+    }
+
+    /**
+     * Gets the top edges of the glyph quads. Only the first {@link #getCount()} values are valid.
+     *
+     * @return the Y coordinates
+     */
+    public float[] getTop () {
+        return top;
+    }
+
+    /**
+     * Gets the characters of the glyph quads. Only the first {@link #getCount()} values are valid.
+     *
+     * @return the characters, each of which is in the atlas
+     */
+    public char[] getGlyphs () {
+        return glyph;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to warn, once, that text did not fit in the batch
+     */
+    private void reportOverflow (String text) {
+        if (Logger.DEBUG && !isOverflowReported) {
+            isOverflowReported = true;
+            Logger.w(TAG, "Batch of %d glyphs is full, dropped glyphs of: %s", glyph.length, text);
+        }
+    }
+}
@@ -22,6 +22,18 @@ public final class TextFormat {
      * @return the Y value required to vertically center the text
      */
     public static float verticalCenter (float top, float bottom, Paint paint) {
-        return top + ((bottom - top) / 2) - ((paint.ascent() + paint.descent()) / 2);
+        return top + ((bottom - top) / 2) + baselineOffset(paint);
+    }
+
+    /**
+     * Helper method to determine the offset from a vertical center line to the Y origin of text.
+     * The offset depends only on the Paint's typeface and text size, so callers drawing many
+     * labels can work it out once and add it to each center.
+     *
+     * @param paint the Paint object to draw the text
+     * @return the value to add to a center Y value to vertically center the text
+     */
+    public static float baselineOffset (Paint paint) {
+        return -((paint.ascent() + paint.descent()) / 2);
     }
 }
@@ -1,8 +1,5 @@
 package ca.chrisbarrett.bubblecount.util;
 
-
-import java.util.Random;
-
 /**
  * A placeholder for shared Values information, such as Preference, Extra tags
  *
@@ -12,8 +9,6 @@ import java.util.Random;
  */
 public final class Values {
 
-    public static final Random RANDOM = new Random();
-
     private Values (){}
 
     /**
@@ -22,6 +17,7 @@ public final class Values {
     public static abstract class  Extra {
         public static final String GAME_ID_SELECTOR = "GAME_ID_SELECTOR";
         public static final String PLAYER_ID_SELECTOR = "PLAYER_ID_SELECTOR";
+        public static final String PLAYER_AGE = "PLAYER_AGE";
 
     }
 
@@ -0,0 +1,23 @@
+package ca.chrisbarrett.bubblecount.view;
+
+/**
+ * A View that displays a game. Lets the hosting Activity start and stop the game without knowing
+ * which View is drawing it.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.GameView
+ * @see ca.chrisbarrett.bubblecount.view.GlGameView
+ * @since Oct 17, 2026
+ */
+public interface GameScreen {
+
+    /**
+     * Must be called when the calling Activity or Fragment calls onResume. Starts the game.
+     */
+    void onResume ();
+
+    /**
+     * Must be called when the calling Activity or Fragment calls onPause. Stops the game.
+     */
+    void onPause ();
+}
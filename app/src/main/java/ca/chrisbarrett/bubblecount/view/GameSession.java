@@ -0,0 +1,496 @@
+package ca.chrisbarrett.bubblecount.view;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.graphics.Bitmap;
+import android.graphics.Paint;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.preference.PreferenceManager;
+import android.support.v4.content.ContextCompat;
+
+import ca.chrisbarrett.bubblecount.R;
+import ca.chrisbarrett.bubblecount.core.CoreLogger;
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+import ca.chrisbarrett.bubblecount.dao.model.Game;
+import ca.chrisbarrett.bubblecount.game.GameEngine;
+import ca.chrisbarrett.bubblecount.game.GameEngineRegistry;
+import ca.chrisbarrett.bubblecount.util.AndroidLogSink;
+import ca.chrisbarrett.bubblecount.util.BubbleBitmapCache;
+import ca.chrisbarrett.bubblecount.util.FontCache;
+import ca.chrisbarrett.bubblecount.util.GameEngineCache;
+import ca.chrisbarrett.bubblecount.util.GlyphAtlas;
+import ca.chrisbarrett.bubblecount.util.LatencyHistogram;
+import ca.chrisbarrett.bubblecount.util.Logger;
+import ca.chrisbarrett.bubblecount.util.PaintCache;
+import ca.chrisbarrett.bubblecount.util.RoundPoolCache;
+import ca.chrisbarrett.bubblecount.util.SpriteCache;
+import ca.chrisbarrett.bubblecount.util.TextBatch;
+import ca.chrisbarrett.bubblecount.util.TextFormat;
+import ca.chrisbarrett.bubblecount.util.TouchQueue;
+import ca.chrisbarrett.bubblecount.util.Values;
+import ca.chrisbarrett.bubblecount.view.game.model.BubblePhysics;
+import ca.chrisbarrett.bubblecount.view.game.model.Round;
+import ca.chrisbarrett.bubblecount.view.game.model.RoundPool;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteImage;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteStore;
+import ca.chrisbarrett.bubblecount.view.render.Scene;
+
+/**
+ * The state and rules of one game, independent of how it is displayed. A GameSession loads the
+ * {@link GameEngine}, switches between the rounds prepared by a {@link RoundPipeline}, steps the
+ * simulation in fixed ticks and reacts to the player's touches. The views showing the game,
+ * {@link GameView} and {@link GlGameView}, only pace frames and draw the {@link Scene} the session
+ * keeps up to date.
+ * <p/>
+ * Apart from {@link #onTouch(float, float, long)}, every method must be called on the thread
+ * running the game. Touches are only queued by the UI thread; they are hit tested and change the
+ * game state when the game thread drains them at the start of a tick, so no state is shared
+ * between the two threads and no locks are taken.
+ * <p/>
+ * Input latency is measured from each touch's event time to the tick handling it, and, for touches
+ * that pop a bubble, to the frame showing the pop. Both are kept in a {@link LatencyHistogram},
+ * shown on the debug overlay when it is turned on in the settings and logged when the game ends.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.GameView
+ * @see ca.chrisbarrett.bubblecount.view.GlGameView
+ * @since Oct 17, 2026
+ */
+public class GameSession {
+
+    public static final float VERTICAL_DIVIDE_RATIO = 0.8f;
+    public static final int MAX_ROUNDS = 5;
+    public static final int SPRITE_FRAMES = 6;
+    public static final int MAX_GLYPHS = 64;
+    public static final int TICKS_PER_SECOND = 60;
+    public static final int MAX_CATCH_UP_STEPS = 5;
+    public static final int OVERLAY_LINE_TICK_LATENCY = 0;
+    public static final int OVERLAY_LINE_POP_LATENCY = 1;
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final long NANOS_PER_MILLI = 1000000L;
+    private static final long TICK_NANOS = NANOS_PER_SECOND / TICKS_PER_SECOND;
+    private static final float TICK_SECONDS = 1f / TICKS_PER_SECOND;
+    private static final String TAG = "GameSession";
+
+    private final Context context;
+    private final GameView.OnGameViewListener gameListener;
+    private final int maxSprites;
+    private final int backgroundColor;
+    private final int questionColor;
+    private final Handler uiHandler = new Handler(Looper.getMainLooper());
+    private final TouchQueue touches = new TouchQueue(TouchQueue.DEFAULT_CAPACITY);
+    private final LatencyHistogram touchToTick = new LatencyHistogram("tick");
+    private final LatencyHistogram touchToFrame = new LatencyHistogram("pop");
+    private final long[] pendingPops = new long[TouchQueue.DEFAULT_CAPACITY];
+    private int pendingPopCount;
+    private long uptimeOffsetNanos;
+    private Paint textPaint;
+    private Paint drawPaint;
+
+    private long gameId;
+    private long seed;
+    private GameEngine gameEngine;
+    private RoundPipeline roundPipeline;
+    private RoundPool roundPool;
+
+    private long roundStartTime;
+    private long totalTime;
+    private boolean isNewRound;
+    private volatile boolean isGameOver;
+    private volatile int touchCount;
+    private long previousTime;
+    private long accumulator;
+    private int roundCounter;
+    private Round round;
+    private BubbleBitmapCache bubbleCache;
+    private Scene scene;
+    private BubblePhysics physics;
+
+    /**
+     * Constructor
+     *
+     * @param context      Context the game is played in
+     * @param gameListener told when the game ends
+     * @param maxSprites   the most bubbles shown in a round
+     */
+    public GameSession (Context context, GameView.OnGameViewListener gameListener, int maxSprites) {
+        this.context = context;
+        this.gameListener = gameListener;
+        this.maxSprites = maxSprites;
+        backgroundColor = ContextCompat.getColor(context, R.color.primaryBackground);
+        questionColor = ContextCompat.getColor(context, R.color.primaryDark);
+        CoreLogger.setSink(new AndroidLogSink());
+    }
+
+    /**
+     * Prepares the game for display on a screen of the given size. The first round is prepared on
+     * the calling thread; every later round is prepared in the background while the one before it
+     * is played.
+     *
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     */
+    public void start (float screenWidth, float screenHeight) {
+        Logger.d(TAG, "Setting up the game...");
+        // every random choice of the game follows from its seed, so the game can be replayed
+        seed = XoroshiroRandom.newSeed();
+        Logger.i(TAG, "Game seed: %d", seed);
+        // load the game engine
+        gameEngine = loadGame();
+        gameEngine.setNoRepeat(PreferenceManager.getDefaultSharedPreferences(context).
+                getBoolean(context.getString(R.string.pref_no_repeat_key),
+                        context.getResources().getBoolean(R.bool.pref_no_repeat_default)));
+
+        // setup the painters
+        textPaint = PaintCache.getTextPainter();
+        textPaint.setTypeface(FontCache.getFont(context));
+        textPaint.setColor(questionColor);
+        drawPaint = PaintCache.getDrawablePainter();
+
+        // define the two areas
+        float gameAreaHeight = screenHeight * VERTICAL_DIVIDE_RATIO;
+        float textAreaHeight = screenHeight - gameAreaHeight;
+        // font metrics do not change during the game, so the text baselines are worked out once
+        float questionBaseline = TextFormat.verticalCenter(0, textAreaHeight, textPaint);
+        // the sheet is scaled once to the size bubbles are drawn at, so frames are copied unscaled
+        int frameSize = (int) Math.ceil(SpriteStore.DEFAULT_RADIUS * 2);
+        SpriteImage spriteImage = new SpriteImage(SpriteCache.getSprite(context, R.drawable.bubble_sprite,
+                frameSize * SPRITE_FRAMES, frameSize, Bitmap.Config.ARGB_8888), SPRITE_FRAMES);
+        GlyphAtlas atlas = new GlyphAtlas(textPaint, GlyphAtlas.DEFAULT_CHARACTERS);
+        TextBatch textBatch = new TextBatch(atlas, MAX_GLYPHS);
+        bubbleCache = new BubbleBitmapCache(spriteImage, textBatch, textPaint, drawPaint, BubbleBitmapCache.DEFAULT_MAX_BYTES);
+        physics = new BubblePhysics(screenWidth, gameAreaHeight, maxSprites);
+        roundPool = RoundPoolCache.getPool(context.getResources().getInteger(R.integer.round_pool_size),
+                maxSprites, screenWidth, gameAreaHeight, (int) screenWidth, (int) Math.ceil(textAreaHeight));
+        roundPipeline = new RoundPipeline(context, gameEngine, spriteImage, atlas, textPaint, roundPool,
+                screenWidth, gameAreaHeight, textAreaHeight, questionBaseline, seed);
+
+        Logger.d(TAG, "Setting up round: 1");
+        round = roundPipeline.start(MAX_ROUNDS > 1);
+        scene = new Scene(round, spriteImage, bubbleCache, textBatch, textPaint, drawPaint,
+                backgroundColor, screenWidth, gameAreaHeight);
+        scene.setOverlayVisible(PreferenceManager.getDefaultSharedPreferences(context).
+                getBoolean(context.getString(R.string.pref_debug_overlay_key),
+                        context.getResources().getBoolean(R.bool.pref_debug_overlay_default)));
+        touchToTick.reset();
+        touchToFrame.reset();
+        pendingPopCount = 0;
+        // event times are in the uptimeMillis time base, the game runs on nanoTime
+        uptimeOffsetNanos = System.nanoTime() - SystemClock.uptimeMillis() * NANOS_PER_MILLI;
+        roundCounter = 2;
+        touches.clear();
+        isNewRound = false;
+        isGameOver = false;
+        roundStartTime = System.currentTimeMillis();
+        previousTime = System.nanoTime();
+        accumulator = 0;
+    }
+
+    /**
+     * Stops preparing rounds and releases what the game holds between rounds
+     */
+    public void stop () {
+        if (bubbleCache == null) {
+            return;
+        }
+        roundPipeline.stop();
+        Logger.d(TAG, "Round pool hits: %d, misses: %d", roundPool.getHitCount(), roundPool.getMissCount());
+        Logger.d(TAG, "Bubble cache hits: %d, misses: %d, bytes: %d", bubbleCache.getHitCount(),
+                bubbleCache.getMissCount(), bubbleCache.getByteCount());
+        bubbleCache.evictAll();
+    }
+
+    /**
+     * Advances the game to the given time. If the round has been won, the Round prepared in the
+     * background is swapped in, then the simulation is stepped in fixed ticks of
+     * {@link #TICK_NANOS}. At most {@value #MAX_CATCH_UP_STEPS} ticks are run; any remaining
+     * backlog is dropped.
+     *
+     * @param frameTimeNanos the time of the frame about to be drawn
+     * @return the fraction of a tick, between 0 and 1, left over for interpolation
+     */
+    public float advance (long frameTimeNanos) {
+        if (isNewRound) {
+            round = roundPipeline.swap(roundCounter < MAX_ROUNDS);
+            scene.setRound(round);
+            roundCounter++;
+            isNewRound = false;
+            roundStartTime = System.currentTimeMillis();
+        }
+        if (frameTimeNanos > previousTime) {
+            accumulator += frameTimeNanos - previousTime;
+            previousTime = frameTimeNanos;
+        }
+
+        int steps = 0;
+        while (accumulator >= TICK_NANOS && steps < MAX_CATCH_UP_STEPS) {
+            update();
+            accumulator -= TICK_NANOS;
+            steps++;
+        }
+        if (accumulator >= TICK_NANOS) {
+            // Too far behind to catch up. Drop the backlog rather than spiral.
+            accumulator %= TICK_NANOS;
+        }
+        return (float) accumulator / TICK_NANOS;
+    }
+
+    /**
+     * Queues the player touching the screen, to be handled at the start of the next tick. This is
+     * the only method that may be called from the UI thread, and only from that one thread.
+     *
+     * @param x    the X coordinate of the touch
+     * @param y    the Y coordinate of the touch
+     * @param time when the touch happened, from {@link android.view.MotionEvent#getEventTime()}
+     */
+    public void onTouch (float x, float y, long time) {
+        touchCount++;
+        if (!touches.offer(x, y, time)) {
+            Logger.w(TAG, "Touch dropped, the game thread is behind");
+        }
+    }
+
+    /**
+     * Tells the session a frame has been posted to the display. Touches that popped a bubble since
+     * the last frame are counted as shown.
+     *
+     * @param frameTimeNanos when the frame was posted, in the {@link System#nanoTime()} time base
+     */
+    public void onFramePosted (long frameTimeNanos) {
+        if (pendingPopCount == 0) {
+            return;
+        }
+        for (int i = 0; i < pendingPopCount; i++) {
+            touchToFrame.record(frameTimeNanos - pendingPops[i]);
+        }
+        pendingPopCount = 0;
+        if (scene.isOverlayVisible()) {
+            scene.setOverlayLine(OVERLAY_LINE_TICK_LATENCY, touchToTick.toString());
+            scene.setOverlayLine(OVERLAY_LINE_POP_LATENCY, touchToFrame.toString());
+        }
+    }
+
+    /**
+     * Gets the pool the Rounds of the game come from
+     *
+     * @return the pool, or null until {@link #start(float, float)} is called
+     */
+    public RoundPool getRoundPool () {
+        return roundPool;
+    }
+
+    /**
+     * Gets the seed the game, and every round of it, is generated from
+     *
+     * @return the seed, which changes when {@link #start(float, float)} is called
+     */
+    public long getSeed () {
+        return seed;
+    }
+
+    /**
+     * Gets the number of the next round to be played
+     *
+     * @return the round counter, which changes when a round starts
+     */
+    public int getRoundCounter () {
+        return roundCounter;
+    }
+
+    /**
+     * Gets the number of touches the UI thread has passed to {@link #onTouch(float, float, long)},
+     * including any dropped
+     *
+     * @return the touch count since the session was created
+     */
+    public int getTouchCount () {
+        return touchCount;
+    }
+
+    /**
+     * Checks whether the {@link RoundPipeline} worker is idle, so nothing but the game thread is
+     * working on the game
+     *
+     * @return true if no round is being prepared
+     */
+    public boolean isPipelineIdle () {
+        return roundPipeline == null || roundPipeline.isIdle();
+    }
+
+    /**
+     * Checks whether the last round has been won. The game listener has already been told.
+     *
+     * @return true once the game has ended
+     */
+    public boolean isGameOver () {
+        return isGameOver;
+    }
+
+    /**
+     * Gets what is to be drawn
+     *
+     * @return the Scene, or null until {@link #start(float, float)} is called
+     */
+    public Scene getScene () {
+        return scene;
+    }
+
+    /**
+     * Gets the Sprites of the Round being played
+     *
+     * @return the Sprites
+     */
+    public SpriteStore getSprites () {
+        return round.getSprites();
+    }
+
+    /**
+     * Counts the bubbles of the Round being played that have not been popped
+     *
+     * @return the number of visible Sprites
+     */
+    public int getLiveSprites () {
+        SpriteStore sprites = round.getSprites();
+        int live = 0;
+        int size = sprites.size();
+        for (int i = 0; i < size; i++) {
+            if (sprites.getVisibility(i)) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * This method handles a touch taken off the queue:
+     * <ul>
+     * <li>Triggering the correctAnswer will end the round, and the game after the last round.</li>
+     * <li>Triggering the incorrectAnswer will make that sprite invisible</li>
+     * </ul>
+     * Touches arriving after the round has been won, but before the next one is swapped in, are
+     * ignored.
+     *
+     * @param x    the X coordinate of the touch
+     * @param y    the Y coordinate of the touch
+     * @param time when the touch happened, in the {@link SystemClock#uptimeMillis()} time base
+     */
+    protected void handleTouch (float x, float y, long time) {
+        if (isNewRound || isGameOver) {
+            return;
+        }
+        long touchNanos = time * NANOS_PER_MILLI + uptimeOffsetNanos;
+        touchToTick.record(System.nanoTime() - touchNanos);
+        SpriteStore sprites = round.getSprites();
+        int index = round.getSpatialHash().findAt(x, y);
+        if (index != SpriteStore.NO_SPRITE) {
+            if (pendingPopCount < pendingPops.length) {
+                pendingPops[pendingPopCount++] = touchNanos;
+            }
+            if (round.getAnswerCode() == sprites.getLabel(index)) {
+                checkGameState();
+            } else {
+                sprites.setVisibility(index, false);
+            }
+        }
+    }
+
+    /**
+     * This method advances the drawables by one simulation tick of {@link #TICK_NANOS}. Queued
+     * touches are handled first. The {@link BubblePhysics} then moves, bounces and collides the
+     * visible Sprites, rebuilding the Round's
+     * {@link ca.chrisbarrett.bubblecount.view.game.model.SpatialHash} as it goes, and the animation
+     * clock of the Sprites ticks. Popped Sprites stay in the store as invisible and are skipped.
+     */
+    protected void update () {
+        while (touches.poll()) {
+            handleTouch(touches.getX(), touches.getY(), touches.getTime());
+        }
+        SpriteStore sprites = round.getSprites();
+        physics.step(sprites, round.getSpatialHash(), TICK_SECONDS);
+        sprites.animate();
+    }
+
+    /**
+     * This method creates the {@link GameEngine} chosen in the preferences, from the
+     * {@link GameEngineCache}. If the preference is equal to {@link Game#RANDOM}, or names a game
+     * that is not registered, a game is picked from the seed. The engine is built for the age of
+     * the player passed by the hosting Activity, so starting a game needs neither reflection nor
+     * the database.
+     *
+     * @return the engine of the game
+     */
+    protected GameEngine loadGame () {
+        Logger.d(TAG, "Attempting to load GameEngine.");
+        GameEngineRegistry registry = GameEngineCache.getRegistry();
+        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        long defaultGameId = context.getResources().getInteger(R.integer.pref_game_selector_default_value);
+        long gameSelector = Long.valueOf(sharedPreferences.getString(context.getResources().getString(R.string.pref_game_selector_key), "" + defaultGameId));
+        Logger.d(TAG, "Retrieved GameEngine id: %s", gameSelector);
+        if (Game.RANDOM == gameSelector || !registry.contains(gameSelector)) {
+            if (Game.RANDOM != gameSelector) {
+                Logger.e(TAG, "No GameEngine registered for id: %s", gameSelector);
+            }
+            gameId = registry.getGameId(new XoroshiroRandom(seed).nextInt(registry.size()));
+            Logger.d(TAG, "Randomly selected: %s", gameId);
+        } else {
+            gameId = gameSelector;
+            Logger.d(TAG, "As per User, selected: %s", gameId);
+        }
+        int age = context instanceof Activity
+                ? ((Activity) context).getIntent().getIntExtra(Values.Extra.PLAYER_AGE, GameEngine.DEFAULT_AGE)
+                : GameEngine.DEFAULT_AGE;
+        GameEngine loadedEngine = registry.create(gameId, age);
+        Logger.d(TAG, "Instantiated: %s", loadedEngine.getClass());
+        return loadedEngine;
+    }
+
+    /**
+     * Helper method to check the state of the game. IF the roundCounter hasn't yet hit {@link #MAX_ROUNDS},
+     * then a new round will begin. Otherwise, the game will shutdown and return to the calling
+     * Activity the totalTime.
+     */
+    protected void checkGameState () {
+        totalTime = totalTime + (System.currentTimeMillis() - roundStartTime);
+        if (roundCounter <= MAX_ROUNDS) {
+            isNewRound = true;
+        } else {
+            Logger.d(TAG, "Game End called. Shutting down...");
+            saveGameResult();
+            logLatency();
+            isGameOver = true;
+            final long gameId = this.gameId;
+            final long totalTime = this.totalTime;
+            final long seed = this.seed;
+            // touches are handled on the game thread, but the listener expects the UI thread
+            uiHandler.post(new Runnable() {
+                @Override
+                public void run () {
+                    gameListener.onGameEnd(gameId, totalTime, seed);
+                }
+            });
+        }
+    }
+
+    /**
+     * Helper method to log the input latency of the game. The touch winning the last round is
+     * never shown on a frame, so it only counts towards the tick latency.
+     */
+    protected void logLatency () {
+        Logger.i(TAG, "Touch to tick latency: %s", touchToTick);
+        Logger.i(TAG, "Touch to pop latency: %s", touchToFrame);
+    }
+
+    /**
+     * Helper method saves
+     */
+    protected void saveGameResult () {
+
+    }
+}
@@ -1,85 +1,120 @@
 package ca.chrisbarrett.bubblecount.view;
 
 import android.content.Context;
-import android.content.SharedPreferences;
-import android.database.SQLException;
-import android.graphics.Canvas;
-import android.graphics.Paint;
-import android.preference.PreferenceManager;
-import android.support.v4.content.ContextCompat;
+import android.os.Build;
+import android.os.Debug;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
-import android.util.Log;
+import android.view.Choreographer;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
-
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Set;
-
-import ca.chrisbarrett.bubblecount.R;
-import ca.chrisbarrett.bubblecount.dao.Database;
-import ca.chrisbarrett.bubblecount.dao.model.Game;
-import ca.chrisbarrett.bubblecount.game.GameEngine;
-import ca.chrisbarrett.bubblecount.util.FontCache;
-import ca.chrisbarrett.bubblecount.util.PaintCache;
-import ca.chrisbarrett.bubblecount.util.TextFormat;
-import ca.chrisbarrett.bubblecount.util.Values;
-import ca.chrisbarrett.bubblecount.view.game.model.BubbleSprite;
-import ca.chrisbarrett.bubblecount.view.game.model.Sprite;
+import android.view.WindowManager;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import ca.chrisbarrett.bubblecount.util.FrameTelemetry;
+import ca.chrisbarrett.bubblecount.util.Logger;
+import ca.chrisbarrett.bubblecount.view.render.GlRenderer;
+import ca.chrisbarrett.bubblecount.view.render.HardwareCanvasRenderer;
+import ca.chrisbarrett.bubblecount.view.render.Renderer;
+import ca.chrisbarrett.bubblecount.view.render.RendererSelector;
+import ca.chrisbarrett.bubblecount.view.render.Scene;
+import ca.chrisbarrett.bubblecount.view.render.SoftwareCanvasRenderer;
 
 /**
  * The View for the Game, extending {@link  android.view.SurfaceView}. This View will run on a
- * separate Thread from the UI.
+ * separate Thread from the UI. The game itself is played by a {@link GameSession}.
  * <p/>
  * <ol>
  * <li>Bubbles are randomly drawn on the Game area of the screen. The actual implementation,
  * however, maybe less if the available  screen dimensions are to hold all the Sprites.</li>
- * <li>{@link GameView#VERTICAL_DIVIDE_RATIO} defines the ratio between the Sprite area and the
+ * <li>{@link GameSession#VERTICAL_DIVIDE_RATIO} defines the ratio between the Sprite area and the
  * Text area. Text area is used to hold a questionText, or statement to be displayed to the player -
  * such as "1 + 1 = ?" or "1, 2, 3, ?" </li>
+ * <li>Frames are paced either by the display's vsync through {@link android.view.Choreographer}
+ * ({@link GameView#RENDER_MODE_VSYNC}), or by sleeping to a target frame rate
+ * ({@link GameView#RENDER_MODE_LOOP}).</li>
+ * <li>Drawing is done by a {@link Renderer}, chosen on the first frame by a
+ * {@link RendererSelector} from the software canvas, hardware canvas and OpenGL ES renderers.</li>
+ * <li>The update and draw time of every frame is kept in a {@link FrameTelemetry}, which feeds the
+ * performance lines of the debug overlay and is written to {@value #TELEMETRY_FILE} when a game
+ * played with the overlay on stops.</li>
  * </ol>
  *
  * @author Chris Barrett
  * @see android.view.SurfaceView;
  * @since Jun 26, 2016
  */
-public class GameView extends SurfaceView implements Runnable {
+public class GameView extends SurfaceView implements Runnable, SurfaceHolder.Callback,
+        Choreographer.FrameCallback, GameScreen {
 
-    public static final float VERTICAL_DIVIDE_RATIO = 0.8f;
-    public static final int SPRITE_PLACEMENT_ATTEMPTS = 5;
     public static final int MAX_SPRITES = 20; // 20; // TODO - Change back to 20 once collision works.
-    public static final int MAX_ROUNDS = 5;
+    public static final int DEFAULT_TARGET_FRAME_RATE = 60;
+    public static final int RENDER_MODE_LOOP = 0;
+    public static final int RENDER_MODE_VSYNC = 1;
+    public static final int OVERLAY_LINE_FRAMES = 2;
+    public static final int OVERLAY_LINE_COUNTS = 3;
+    public static final String TELEMETRY_FILE = "frames.csv";
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final long NANOS_PER_MILLI = 1000000L;
+    private static final long HUD_WINDOW_NANOS = NANOS_PER_SECOND;
+    private static final long HUD_REFRESH_NANOS = NANOS_PER_SECOND / 2;
+    private static final long GC_SAMPLE_NANOS = NANOS_PER_SECOND / 2;
+    private static final String GC_COUNT_STAT = "art.gc.gc-count";
+    private static final String BYTES_ALLOCATED_STAT = "art.gc.bytes-allocated";
+    private static final int ALLOCATION_CALIBRATION_READS = 4;
+    private static final long SURFACE_RELEASE_POLL_MILLIS = 100;
     private static final String TAG = "GameView";
 
     private Thread gameThread = null;
+    private volatile Looper gameLooper;
+    private volatile Handler gameHandler;
+    private Choreographer choreographer;
+    private boolean isFrameScheduled;
+    private long frameIntervalNanos;
+    private volatile int droppedFrames;
+    private volatile boolean isAllocationTracking;
+    private volatile boolean isAllocationStatsReset;
+    private boolean isCountingAllocations;
+    private long frameStartBytes;
+    private long allocationReadOverhead;
+    private int frameStartTouches;
+    private boolean isFrameStartQuiet;
+    private volatile int trackedFrames;
+    private volatile int maxFrameBytes;
 
     private Context context;
     private SurfaceHolder surfaceHolder;
-    private Canvas canvas;
-    private Paint textPaint;
-    private Paint drawPaint;
-
-    private float screenWidth;
-    private float gameAreaHeight;
-    private float textAreaHeight;
-    private int backgroundColor;
-
-    private long gameId;
-    private GameEngine gameEngine;
-    private String gameEngineQuestion;
-    private String gameEngineAnswer;
-    private OnGameViewListener gameListener;
-
-    private long roundStartTime;
-    private long totalTime;
+    private GameSession session;
+
     private volatile boolean isRunning;
-    private volatile boolean isNewRound;
-    private int roundCounter;
-    private Set<Sprite> sprites;
+    private volatile int targetFrameRate = DEFAULT_TARGET_FRAME_RATE;
+    private volatile int renderMode = RENDER_MODE_VSYNC;
+    private volatile boolean isSurfaceReady;
+    private Scene scene;
+    private Renderer renderer;
+    private RendererSelector rendererSelector;
+    private volatile String rendererName;
+    private volatile int surfaceGeneration;
+    private int renderedSurfaceGeneration;
+    private final Object surfaceLock = new Object();
+    private int releasedSurfaceGeneration;
+    private int renderedRound;
+    private volatile boolean isDirtyRegionRendering = true;
+    private Runnable scheduleFrame;
+    private Runnable releaseSurface;
+    private final FrameTelemetry telemetry = new FrameTelemetry(FrameTelemetry.DEFAULT_CAPACITY);
+    private boolean isOverlayRendered;
+    private long hudRefreshTime;
+    private long gcSampleTime;
+    private int gcAtRoundStart;
+    private int gcSinceRoundStart;
 
     /**
      * Default constructor when inflated programmatically
@@ -110,15 +145,32 @@ public class GameView extends SurfaceView implements Runnable {
      */
     public GameView (Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
-        Log.d(TAG, "Instantiating GameView");
+        Logger.d(TAG, "Instantiating GameView");
         surfaceHolder = getHolder();
+        surfaceHolder.addCallback(this);
         this.context = context;
+        OnGameViewListener gameListener;
         try {
             gameListener = (OnGameViewListener) context;
         } catch (ClassCastException e) {
             throw new ClassCastException(context.toString() + " must implement OnGameViewListener");
         }
-        backgroundColor = ContextCompat.getColor(context, R.color.primaryBackground);
+        session = new GameSession(context, gameListener, MAX_SPRITES);
+        scheduleFrame = new Runnable() {
+            @Override
+            public void run () {
+                if (isSurfaceReady && !isFrameScheduled) {
+                    isFrameScheduled = true;
+                    choreographer.postFrameCallback(GameView.this);
+                }
+            }
+        };
+        releaseSurface = new Runnable() {
+            @Override
+            public void run () {
+                releaseSurface();
+            }
+        };
     }
 
     //
@@ -129,10 +181,10 @@ public class GameView extends SurfaceView implements Runnable {
      * Must be called when the calling Activity or Fragment calls onResume. Method checks the
      * screen dimensions and starts a new thread to run the game.
      */
+    @Override
     public void onResume () {
-        Log.d(TAG, "GameView onResume called");
+        Logger.d(TAG, "GameView onResume called");
         isRunning = true;
-        isNewRound = true;
         gameThread = new Thread(this);
         gameThread.start();
     }
@@ -141,259 +193,649 @@ public class GameView extends SurfaceView implements Runnable {
      * Must be called when the calling Activity or Fragment calls onPause. Method shuts down the
      * game thread.
      */
+    @Override
     public void onPause () {
-        Log.d(TAG, "GameView onPause called");
+        Logger.d(TAG, "GameView onPause called");
         isRunning = false;
+        Looper looper = gameLooper;
+        if (looper != null) {
+            looper.quit();
+        }
         try {
             gameThread.join();
         } catch (InterruptedException e) {
-            Log.e(TAG, e.getMessage());
+            Logger.e(TAG, e.getMessage());
         }
     }
 
     /**
      * Thread runner method. Prepares the game for display, records the start time of the game,
-     * then loops as the game is running.
+     * then loops as the game is running. In {@link #RENDER_MODE_VSYNC} the thread instead runs a
+     * Looper and is woken by {@link #doFrame(long)}.
      */
     @Override
     public void run () {
-        Log.d(TAG, "Setting up the game...");
-        // load the game engine
-        gameEngine = loadGame();
+        // determine the screen dimensions
+        DisplayMetrics metrics = getResources().getDisplayMetrics();
+        session.start(metrics.widthPixels, metrics.heightPixels);
+        scene = session.getScene();
+        scene.setDirtyRegionRendering(isDirtyRegionRendering);
+        rendererSelector = new RendererSelector(context);
+        renderedSurfaceGeneration = surfaceGeneration;
+        onSurfaceReleased(renderedSurfaceGeneration);
+        renderedRound = session.getRoundCounter();
+        telemetry.clear();
+        startGcCount(0);
+        hudRefreshTime = 0;
+
+        if (renderMode == RENDER_MODE_VSYNC) {
+            runVsync();
+        } else {
+            runLoop();
+        }
+        isCountingAllocations = false;
+        if (renderer != null) {
+            renderer.stop();
+            renderer = null;
+        }
+        onSurfaceReleased(surfaceGeneration);
+        if (scene.isOverlayVisible()) {
+            exportTelemetry(new File(context.getFilesDir(), TELEMETRY_FILE));
+        }
+        session.stop();
+        Logger.d(TAG, "Game thread has finished.");
+    }
 
-        // setup the painters
-        textPaint = PaintCache.getTextPainter();
-        textPaint.setTypeface(FontCache.getFont(context));
-        drawPaint = PaintCache.getDrawablePainter();
+    /**
+     * Called by the Choreographer on the game thread once per display refresh while the surface
+     * exists. The simulation is advanced to the vsync timestamp and a frame is drawn, unless the
+     * callback arrived more than one refresh late. Late frames are dropped rather than drawn
+     * behind the display.
+     *
+     * @param frameTimeNanos the time the vsync started, in the {@link System#nanoTime()} timebase
+     */
+    @Override
+    public void doFrame (long frameTimeNanos) {
+        if (!isRunning || session.isGameOver() || !isSurfaceReady) {
+            isFrameScheduled = false;
+            return;
+        }
+        choreographer.postFrameCallback(this);
+        startAllocationCount();
+        int round = session.getRoundCounter();
+        long updateStart = System.nanoTime();
+        float interpolation = session.advance(frameTimeNanos);
+        long drawStart = System.nanoTime();
+        long drawNanos = 0;
+        if (drawStart - frameTimeNanos > frameIntervalNanos) {
+            droppedFrames++;
+        } else {
+            draw(interpolation);
+            drawNanos = System.nanoTime() - drawStart;
+        }
+        boolean isRoundStart = round != session.getRoundCounter();
+        stopAllocationCount(isRoundStart);
+        recordFrame(frameTimeNanos, drawStart - updateStart, drawNanos, isRoundStart);
+    }
 
-        // determine the screen dimensions and define the two areas
-        DisplayMetrics metrics = getResources().getDisplayMetrics();
-        screenWidth = metrics.widthPixels;
-        float screenHeight = metrics.heightPixels;
-        gameAreaHeight = screenHeight * VERTICAL_DIVIDE_RATIO;
-        textAreaHeight = screenHeight - gameAreaHeight;
-
-        roundCounter = 1;
-        // looper to run the game on the thread
-        while (isRunning) {
-            if (isNewRound) {
-                Log.d(TAG, "Setting up round: " + roundCounter);
-                prepareRound();
-                roundCounter++;
-                isNewRound = false;
-                roundStartTime = System.currentTimeMillis();
-            }
-            update();
-            draw();
-            try {
-                Thread.sleep(10);
-            } catch (InterruptedException e) {
-                Log.e(TAG, "Thread failed...");
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void surfaceCreated (SurfaceHolder holder) {
+        Logger.d(TAG, "Surface created.");
+        isSurfaceReady = true;
+        surfaceGeneration++;
+        Handler handler = gameHandler;
+        if (handler != null) {
+            handler.post(scheduleFrame);
         }
     }
 
-    //
-    // Helper methods begin here
-    //
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void surfaceChanged (SurfaceHolder holder, int format, int width, int height) {
+        surfaceGeneration++;
+    }
 
     /**
-     * Monitors the screen for touches. When the screen is touched:
-     * <ul>
-     * <li>Triggering the correctAnswer will end the game running and fire the end game routine.</li>
-     * <li>Triggering the incorrectAnswer will make that sprite invisible</li>
-     * </ul>
-     * <p/>
+     * {@inheritDoc}
      * <p/>
-     * The method checks to see if the correct answer has been hit. If the correct answer has been
-     * hit, a check of the game state will be done.
-     *
-     * @param event
-     * @return
+     * Blocks until the game thread has finished any frame it is drawing and its Renderer has
+     * released the surface, as the surface is destroyed as soon as this returns. Once the surface
+     * is gone, the next frame callback will not reschedule itself, leaving the game thread idle
+     * until {@link #surfaceCreated(SurfaceHolder)}.
      */
     @Override
-    public boolean onTouchEvent (MotionEvent event) {
-        switch (event.getAction()) {
-            case MotionEvent.ACTION_DOWN:
-                boolean isGameFinished = false;
-                float x = event.getX();
-                float y = event.getY();
-                Iterator<Sprite> spriteIterator = sprites.iterator();
-                while (spriteIterator.hasNext()) {
-                    Sprite sprite = spriteIterator.next();
-                    if (sprite.isCollision(x, y)) {
-                        if (gameEngineAnswer.equals(sprite.getText())) {
-                            checkGameState();
-                            break;
-                        } else {
-                            sprite.setVisibility(false);
-                        }
-                    }
-                }
+    public void surfaceDestroyed (SurfaceHolder holder) {
+        Logger.d(TAG, "Surface destroyed.");
+        isSurfaceReady = false;
+        int generation = ++surfaceGeneration;
+        Handler handler = gameHandler;
+        if (handler != null) {
+            handler.post(releaseSurface);
         }
-        return super.onTouchEvent(event);
+        waitForSurfaceRelease(generation);
     }
 
     /**
-     * This method updates the drawables. As positions inside the Set are updated, an Iterator is used.
-     * Generally, after updating, {@link #draw()} should be called.
+     * Sets the rate at which the game thread renders frames in {@link #RENDER_MODE_LOOP}. The
+     * simulation continues to run at {@value GameSession#TICKS_PER_SECOND} ticks per second regardless of
+     * this value; frames drawn between ticks are interpolated.
+     *
+     * @param targetFrameRate frames per second, must be greater than 0
      */
-    protected void update () {
-        Iterator<Sprite> spriteIterator = sprites.iterator();
+    public void setTargetFrameRate (int targetFrameRate) {
+        if (targetFrameRate <= 0) {
+            throw new IllegalArgumentException("targetFrameRate must be greater than 0");
+        }
+        this.targetFrameRate = targetFrameRate;
+    }
 
-        while (spriteIterator.hasNext()) {
-            Sprite outerSprite = spriteIterator.next();
-            outerSprite.update();
-            // deletes any sprites that have been turned invisible and skips if this sprite has been updated.
-            if (!outerSprite.getVisibility()) {
-                spriteIterator.remove();
-                continue;
+    /**
+     * Gets the rate at which the game thread renders frames
+     *
+     * @return frames per second
+     */
+    public int getTargetFrameRate () {
+        return targetFrameRate;
+    }
+
+    /**
+     * Sets how frames are paced. Takes effect the next time {@link #onResume()} is called.
+     *
+     * @param renderMode either {@link #RENDER_MODE_LOOP} or {@link #RENDER_MODE_VSYNC}
+     */
+    public void setRenderMode (int renderMode) {
+        if (renderMode != RENDER_MODE_LOOP && renderMode != RENDER_MODE_VSYNC) {
+            throw new IllegalArgumentException("Unknown renderMode: " + renderMode);
+        }
+        this.renderMode = renderMode;
+    }
+
+    /**
+     * Gets how frames are paced
+     *
+     * @return either {@link #RENDER_MODE_LOOP} or {@link #RENDER_MODE_VSYNC}
+     */
+    public int getRenderMode () {
+        return renderMode;
+    }
+
+    /**
+     * Turns allocation tracking on or off. While on, the bytes allocated during every frame are
+     * measured from the runtime's cumulative allocation count, less the bytes allocated by reading
+     * that count. The count covers the whole process, so only frames the game thread has to itself
+     * are counted: frames during which the {@link RoundPipeline} worker was preparing a round, or
+     * the UI thread queued a touch, are skipped. Frames that start a new round are not counted
+     * either, as the new labels are rendered into the bubble cache. Nothing is counted unless
+     * {@link #isAllocationCountAvailable()}. Counting slows the game down and is intended for debug
+     * builds and tests only.
+     *
+     * @param isAllocationTracking true to count allocations per frame
+     */
+    public void setAllocationTracking (boolean isAllocationTracking) {
+        this.isAllocationTracking = isAllocationTracking;
+    }
+
+    /**
+     * Checks whether the runtime reports the number of bytes allocated, which it does through
+     * {@link Debug#getRuntimeStat(String)} from API level 23
+     *
+     * @return true if allocation tracking can count allocations
+     */
+    public boolean isAllocationCountAvailable () {
+        return readAllocatedBytes() != FrameTelemetry.UNKNOWN;
+    }
+
+    /**
+     * Clears the allocation statistics gathered so far
+     */
+    public void resetAllocationStats () {
+        isAllocationStatsReset = true;
+    }
+
+    /**
+     * Gets the number of steady state frames counted since allocation tracking was turned on or
+     * the statistics were reset
+     *
+     * @return the number of frames counted
+     */
+    public int getTrackedFrames () {
+        return trackedFrames;
+    }
+
+    /**
+     * Gets the largest number of bytes allocated by a single steady state frame since allocation
+     * tracking was turned on or the statistics were reset
+     *
+     * @return the maximum bytes allocated per frame. Should always be 0
+     */
+    public int getMaxFrameAllocatedBytes () {
+        return maxFrameBytes;
+    }
+
+    /**
+     * Gets the number of vsync frames dropped because the game thread was behind
+     *
+     * @return the dropped frame count since the game thread started
+     */
+    public int getDroppedFrames () {
+        return droppedFrames;
+    }
+
+    /**
+     * Shows or hides the debug overlay, with the frame rate, update and draw times, live bubbles,
+     * garbage collections and dropped vsyncs of the game running, along with its input latency.
+     * The overlay starts as set in the settings each time the game thread starts. Refreshing the
+     * overlay allocates, so it should be hidden while tracking allocations.
+     *
+     * @param isOverlayVisible true to show the overlay
+     */
+    public void setOverlayVisible (boolean isOverlayVisible) {
+        Scene scene = this.scene;
+        if (scene != null) {
+            scene.setOverlayVisible(isOverlayVisible);
+        }
+    }
+
+    /**
+     * Gets the timings of the latest frames. The rows can be exported from any thread while the
+     * game is running.
+     *
+     * @return the frame telemetry
+     */
+    public FrameTelemetry getTelemetry () {
+        return telemetry;
+    }
+
+    /**
+     * Writes the timings of the latest frames to a file as comma separated values
+     *
+     * @param file the file to write, replaced if it exists
+     * @return true if the file was written
+     */
+    public boolean exportTelemetry (File file) {
+        Writer writer = null;
+        try {
+            writer = new FileWriter(file);
+            int rows = telemetry.writeCsv(writer);
+            Logger.i(TAG, "Wrote %s frames to %s", rows, file);
+            return true;
+        } catch (IOException e) {
+            Logger.e(TAG, "Unable to write frame telemetry: %s", e.getMessage());
+            return false;
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    Logger.e(TAG, e.getMessage());
+                }
             }
-            outerSprite.animate();
         }
     }
 
     /**
-     * Draws the drawables. For sprites, a foreach loop is used as no changes to the sprite values
-     * takes place. This method should be called after {@link #update()}.
+     * Gets the name of the {@link Renderer} drawing the game
+     *
+     * @return the name, or null until the first frame has been drawn
      */
-    protected void draw () {
-        if (surfaceHolder.getSurface().isValid()) {
-            canvas = surfaceHolder.lockCanvas();
-            canvas.drawColor(backgroundColor);
-            drawPaint.setColor(ContextCompat.getColor(context, R.color.secondaryBackground));
-            canvas.drawRect(0, gameAreaHeight, screenWidth, gameAreaHeight + textAreaHeight, drawPaint);
-            drawPaint.setColor(ContextCompat.getColor(context, R.color.divider));
-            canvas.drawRect(0, gameAreaHeight, screenWidth, gameAreaHeight + 5, drawPaint);
-            canvas.drawRect(gameAreaHeight, screenWidth-5, screenWidth, gameAreaHeight + textAreaHeight, drawPaint);
-            textPaint.setColor(ContextCompat.getColor(context, R.color.primaryDark));
-            canvas.drawText(gameEngineQuestion, screenWidth / 2f, TextFormat
-                    .verticalCenter(gameAreaHeight, textAreaHeight + gameAreaHeight,
-                            textPaint), textPaint);
-            for (Sprite sprite : sprites) {
-                sprite.draw(canvas, drawPaint, textPaint);
+    public String getRendererName () {
+        return rendererName;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Paces the game thread by sleeping until the next frame is due at the target frame rate.
+     */
+    protected void runLoop () {
+        while (isRunning && !session.isGameOver()) {
+            long frameStart = System.nanoTime();
+            startAllocationCount();
+            int round = session.getRoundCounter();
+            float interpolation = session.advance(frameStart);
+            long drawStart = System.nanoTime();
+            draw(interpolation);
+            boolean isRoundStart = round != session.getRoundCounter();
+            stopAllocationCount(isRoundStart);
+            recordFrame(frameStart, drawStart - frameStart, System.nanoTime() - drawStart, isRoundStart);
+
+            long sleepNanos = (NANOS_PER_SECOND / targetFrameRate) - (System.nanoTime() - frameStart);
+            if (sleepNanos > 0) {
+                try {
+                    Thread.sleep(sleepNanos / NANOS_PER_MILLI, (int) (sleepNanos % NANOS_PER_MILLI));
+                } catch (InterruptedException e) {
+                    Logger.e(TAG, "Thread failed...");
+                }
             }
-            surfaceHolder.unlockCanvasAndPost(canvas);
         }
     }
 
+    /**
+     * Paces the game thread from the display's vsync. The thread blocks in its Looper, using no
+     * CPU, except when a frame callback is delivered.
+     */
+    protected void runVsync () {
+        Looper.prepare();
+        choreographer = Choreographer.getInstance();
+        gameHandler = new Handler();
+        frameIntervalNanos = (long) (NANOS_PER_SECOND / ((WindowManager) context
+                .getSystemService(Context.WINDOW_SERVICE)).getDefaultDisplay().getRefreshRate());
+        droppedFrames = 0;
+        gameLooper = Looper.myLooper();
+        // the surface may have been destroyed before the Handler existed
+        releaseSurface();
+        // onPause may have been called before the Looper existed
+        if (isRunning) {
+            scheduleFrame.run();
+            Looper.loop();
+        }
+        choreographer.removeFrameCallback(this);
+        gameLooper = null;
+        gameHandler = null;
+        isFrameScheduled = false;
+    }
 
     /**
-     * This method loads the {@link GameEngine} from the database based on the preference setting.
-     * If the preference is null, or the preference is equal to 1, then a random game will be loaded.
-     * We do it in this class, as it's closely related to the GameView and the GameView can run this
-     * on another thread.
+     * Helper method to record the timings of a frame, and refresh the performance lines of the debug
+     * overlay if it is showing. The garbage collection count is sampled at a fixed cadence whether
+     * or not the overlay is showing, so the exported telemetry has it either way.
      *
-     * @return
+     * @param frameStartNanos when the frame started
+     * @param updateNanos     time spent advancing the game
+     * @param drawNanos       time spent drawing, or 0 if the frame was dropped
+     * @param isRoundStart    true if the frame started a new round
+     */
+    protected void recordFrame (long frameStartNanos, long updateNanos, long drawNanos,
+                                boolean isRoundStart) {
+        if (isRoundStart) {
+            startGcCount(frameStartNanos);
+        } else if (frameStartNanos - gcSampleTime >= GC_SAMPLE_NANOS) {
+            gcSampleTime = frameStartNanos;
+            int gcCount = readGcCount();
+            gcSinceRoundStart = gcCount == FrameTelemetry.UNKNOWN || gcAtRoundStart == FrameTelemetry.UNKNOWN
+                    ? FrameTelemetry.UNKNOWN : gcCount - gcAtRoundStart;
+        }
+        int liveSprites = session.getLiveSprites();
+        telemetry.record(frameStartNanos, updateNanos, drawNanos, liveSprites, gcSinceRoundStart,
+                droppedFrames);
+        if (!scene.isOverlayVisible() || frameStartNanos - hudRefreshTime < HUD_REFRESH_NANOS) {
+            return;
+        }
+        hudRefreshTime = frameStartNanos;
+        scene.setOverlayLine(OVERLAY_LINE_FRAMES, String.format("fps=%.1f update=%.2fms draw=%.2fms",
+                telemetry.getFrameRate(HUD_WINDOW_NANOS),
+                telemetry.getMeanUpdateNanos(HUD_WINDOW_NANOS) / 1e6,
+                telemetry.getMeanDrawNanos(HUD_WINDOW_NANOS) / 1e6));
+        scene.setOverlayLine(OVERLAY_LINE_COUNTS, String.format("sprites=%d gc=%s dropped=%d",
+                liveSprites, gcSinceRoundStart == FrameTelemetry.UNKNOWN ? "?" : gcSinceRoundStart,
+                droppedFrames));
+    }
+
+    /**
+     * Helper method to restart the garbage collection count at the start of a round
+     *
+     * @param frameStartNanos when the frame starting the round started
+     */
+    protected void startGcCount (long frameStartNanos) {
+        gcAtRoundStart = readGcCount();
+        gcSinceRoundStart = gcAtRoundStart == FrameTelemetry.UNKNOWN ? FrameTelemetry.UNKNOWN : 0;
+        gcSampleTime = frameStartNanos;
+    }
+
+    /**
+     * Helper method to read the number of garbage collections since the process started. The
+     * runtime only reports this from API level 23; the count is only read when a round starts and
+     * every {@link #GC_SAMPLE_NANOS} after that, as reading it allocates.
+     *
+     * @return the collection count, or {@link FrameTelemetry#UNKNOWN} below API level 23
      */
-    protected GameEngine loadGame () {
-        Log.d(TAG, "Attempting to load GameEngine.");
-        Game game = null;
-        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(getContext());
-        long defaultGameId = getResources().getInteger(R.integer.pref_game_selector_default_value);
-        long gameSelector = Long.valueOf(sharedPreferences.getString(getResources().getString(R.string.pref_game_selector_key), "" + defaultGameId));
-        Log.d(TAG, "Retrieved GameEngine id: " + gameSelector);
+    protected int readGcCount () {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+            return FrameTelemetry.UNKNOWN;
+        }
+        String stat = Debug.getRuntimeStat(GC_COUNT_STAT);
+        if (stat == null) {
+            return FrameTelemetry.UNKNOWN;
+        }
         try {
-            Database db = new Database(getContext());
-            db.open();
-            if (Game.RANDOM == gameSelector) {
-                List<Game> games = db.gameDao.selectAllGames();
-                Collections.shuffle(games, Values.RANDOM);
-                game = games.get(0);
-                Log.d(TAG, "Randomly selected: " + game.toString());
-            } else {
-                game = db.gameDao.selectGameById(gameSelector);
-                Log.d(TAG, "As per User, selected: " + game.toString());
+            return Integer.parseInt(stat);
+        } catch (NumberFormatException e) {
+            return FrameTelemetry.UNKNOWN;
+        }
+    }
+
+    /**
+     * Helper method to begin counting the allocations of a frame, if allocation tracking is on.
+     * The bytes allocated by reading the count are measured when counting starts.
+     */
+    protected void startAllocationCount () {
+        if (!isAllocationTracking) {
+            isCountingAllocations = false;
+            return;
+        }
+        if (!isCountingAllocations) {
+            allocationReadOverhead = measureAllocationReadOverhead();
+            if (allocationReadOverhead == FrameTelemetry.UNKNOWN) {
+                return;
+            }
+            isCountingAllocations = true;
+        }
+        frameStartTouches = session.getTouchCount();
+        isFrameStartQuiet = session.isPipelineIdle();
+        frameStartBytes = readAllocatedBytes();
+    }
+
+    /**
+     * Helper method to record the allocations of a frame, if allocation tracking is on
+     *
+     * @param isRoundStart true if the frame started a new round, in which case it is not counted
+     */
+    protected void stopAllocationCount (boolean isRoundStart) {
+        if (!isCountingAllocations) {
+            return;
+        }
+        long frameBytes = readAllocatedBytes() - frameStartBytes - allocationReadOverhead;
+        boolean isQuiet = isFrameStartQuiet && session.isPipelineIdle()
+                && session.getTouchCount() == frameStartTouches;
+        if (isAllocationStatsReset) {
+            isAllocationStatsReset = false;
+            trackedFrames = 0;
+            maxFrameBytes = 0;
+            return;
+        }
+        if (!isRoundStart && isQuiet) {
+            trackedFrames++;
+            int bytes = (int) Math.max(0, frameBytes);
+            if (bytes > maxFrameBytes) {
+                maxFrameBytes = bytes;
+                // logged after the count was read, so the message is not part of any frame
+                Logger.w(TAG, "Frame allocated %s bytes", bytes);
             }
-            db.close();
-        } catch (SQLException e) {
-            Log.e(TAG, e.getMessage());
         }
-        gameId = game.getId();
-        GameEngine loadedEngine = null;
+    }
+
+    /**
+     * Helper method to read the number of bytes allocated since the process started. The counter
+     * is sampled before the String reporting it is built, so that String is counted by the next
+     * read.
+     *
+     * @return the bytes allocated, or {@link FrameTelemetry#UNKNOWN} below API level 23
+     */
+    protected long readAllocatedBytes () {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+            return FrameTelemetry.UNKNOWN;
+        }
+        String stat = Debug.getRuntimeStat(BYTES_ALLOCATED_STAT);
+        if (stat == null) {
+            return FrameTelemetry.UNKNOWN;
+        }
         try {
-            Log.d(TAG, "Attempting to instantiate using: " + game.getClassPathName());
-            ClassLoader classLoader = this.getClass().getClassLoader();
-            loadedEngine = (GameEngine) classLoader.loadClass(game.getClassPathName()).newInstance();
-            Log.d(TAG, "Instantiated: " + loadedEngine.getClass());
-        } catch (ClassNotFoundException e) {
-            Log.e(TAG, e.getMessage());
-        } catch (InstantiationException e) {
-            Log.e(TAG, e.getMessage());
-        } catch (IllegalAccessException e) {
-            Log.e(TAG, e.getMessage());
+            return Long.parseLong(stat);
+        } catch (NumberFormatException e) {
+            return FrameTelemetry.UNKNOWN;
         }
-        return loadedEngine;
     }
 
     /**
-     * Sets up the round in the background. Positions the Sprites randomly in the defined area for
-     * Sprites.
-     * <p/>
-     * Brute force is used to make sure the Sprites do not overlap. {@value GameView#SPRITE_PLACEMENT_ATTEMPTS}
-     * attempts to  place the Sprite without overlap will be tried. By keeping the attempts low,
-     * the perception of a random generation in numbers is achieved.
-     * <p/>
-     * The total number of Sprites will be the lesser of the size of {@link GameEngine#getCorrectElement()}
-     * and {@link #MAX_SPRITES}
-     */
-    protected void prepareRound () {
-        gameEngine.randomize();
-        gameEngineAnswer = gameEngine.getCorrectElement();
-        gameEngineQuestion = gameEngine.getQuestion();
-        sprites = new HashSet();
-
-        // Always insert the first bubble_sprite as it as the correct answer
-        sprites.add(new BubbleSprite(context, screenWidth, gameAreaHeight, gameEngineAnswer));
-
-        boolean isSpriteOverlap;
-        Iterator<String> iteratorElements = gameEngine.getIncorrectElements().iterator();
-        while (iteratorElements.hasNext() && sprites.size() < MAX_SPRITES) {
-            Sprite newSprite;
-            int creationAttempt = 0;
-            do {
-                isSpriteOverlap = false;
-                newSprite = new BubbleSprite(context, screenWidth, gameAreaHeight, null);
-                for (Sprite sprite : sprites) {
-                    if (sprite.isCollision(newSprite)) {
-                        isSpriteOverlap = true;
-                        creationAttempt++;
-                    }
-                }
-            } while (isSpriteOverlap && creationAttempt < SPRITE_PLACEMENT_ATTEMPTS);
-            if (creationAttempt < SPRITE_PLACEMENT_ATTEMPTS) {
-                newSprite.setText(iteratorElements.next());
-                sprites.add(newSprite);
+     * Helper method to measure the bytes allocated by one {@link #readAllocatedBytes()}, as the
+     * smallest difference between back to back reads
+     *
+     * @return the bytes allocated per read, or {@link FrameTelemetry#UNKNOWN} if the count is not
+     * available
+     */
+    private long measureAllocationReadOverhead () {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < ALLOCATION_CALIBRATION_READS; i++) {
+            long first = readAllocatedBytes();
+            long second = readAllocatedBytes();
+            if (first == FrameTelemetry.UNKNOWN || second == FrameTelemetry.UNKNOWN) {
+                return FrameTelemetry.UNKNOWN;
             }
+            overhead = Math.min(overhead, second - first);
         }
-        Log.d(TAG, "Preparing Round is complete.");
+        return overhead;
     }
 
+    /**
+     * Monitors the screen for touches, which are queued for the {@link GameSession} to handle on
+     * the game thread
+     *
+     * @param event
+     * @return
+     */
+    @Override
+    public boolean onTouchEvent (MotionEvent event) {
+        switch (event.getAction()) {
+            case MotionEvent.ACTION_DOWN:
+                session.onTouch(event.getX(), event.getY(), event.getEventTime());
+        }
+        return super.onTouchEvent(event);
+    }
 
     /**
-     * Helper method to check the state of the game. IF the roundCounter hasn't yet hit {@link #MAX_ROUNDS},
-     * then a new round will begin. Otherwise, the game will shutdown and return to the calling
-     * Activity the totalTime.
+     * Draws the drawables through the {@link Renderer}. This method should be called after
+     * {@link GameSession#advance(long)}.
+     * <p/>
+     * The Renderer is chosen on the first frame, once the first round has been prepared, so the
+     * {@link RendererSelector} can benchmark with real bubbles. If the Renderer fails it is stopped
+     * and replaced with a {@link SoftwareCanvasRenderer}, which is recorded as the choice.
+     *
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
      */
-    protected void checkGameState () {
-        totalTime = totalTime + (System.currentTimeMillis() - roundStartTime);
-        if (roundCounter <= MAX_ROUNDS) {
-            isNewRound = true;
+    protected void draw (float interpolation) {
+        if (renderer == null) {
+            startRenderer(rendererSelector.select(scene, new GlRenderer(), new HardwareCanvasRenderer(),
+                    new SoftwareCanvasRenderer()));
+        }
+        int round = session.getRoundCounter();
+        if (round != renderedRound) {
+            renderedRound = round;
+            renderer.invalidate();
+        }
+        if (scene.isOverlayVisible() != isOverlayRendered) {
+            // clears the overlay strip when it is hidden
+            isOverlayRendered = scene.isOverlayVisible();
+            renderer.invalidate();
+        }
+        releaseSurface();
+        if (!isSurfaceReady) {
+            return;
+        }
+        if (!renderer.render(interpolation)) {
+            Logger.w(TAG, "Renderer %s failed, falling back to software.", renderer.getName());
+            renderer.stop();
+            Renderer fallback = new SoftwareCanvasRenderer();
+            rendererSelector.record(fallback, Renderer.BENCHMARK_FAILED);
+            startRenderer(fallback);
         } else {
-            Log.d(TAG, "Game End called. Shutting down...");
-            saveGameResult();
-            gameListener.onGameEnd(gameId, totalTime);
-            isRunning = false;
+            session.onFramePosted(System.nanoTime());
+        }
+    }
+
+    /**
+     * Helper method to let the Renderer release anything tied to the previous surface once the
+     * surface has been recreated, resized or destroyed, then wake {@link #surfaceDestroyed(SurfaceHolder)}.
+     * Called on the game thread between frames.
+     */
+    protected void releaseSurface () {
+        int generation = surfaceGeneration;
+        if (generation == renderedSurfaceGeneration) {
+            return;
+        }
+        renderedSurfaceGeneration = generation;
+        if (renderer != null) {
+            renderer.onSurfaceChanged();
+        }
+        onSurfaceReleased(generation);
+    }
+
+    /**
+     * Helper method to record that the game thread no longer draws to any surface older than a
+     * generation
+     *
+     * @param generation the surface generation the game thread has caught up with
+     */
+    private void onSurfaceReleased (int generation) {
+        synchronized (surfaceLock) {
+            releasedSurfaceGeneration = generation;
+            surfaceLock.notifyAll();
+        }
+    }
+
+    /**
+     * Helper method to block the UI thread until the game thread has caught up with a surface
+     * generation, or has finished
+     *
+     * @param generation the surface generation to wait for
+     */
+    private void waitForSurfaceRelease (int generation) {
+        Thread thread = gameThread;
+        synchronized (surfaceLock) {
+            while (releasedSurfaceGeneration < generation && thread != null && thread.isAlive()) {
+                try {
+                    surfaceLock.wait(SURFACE_RELEASE_POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Logger.e(TAG, e.getMessage());
+                    return;
+                }
+            }
         }
     }
 
     /**
-     * Helper method saves
+     * Helper method to start drawing with a Renderer
+     *
+     * @param renderer the Renderer, not yet started
      */
-    protected void saveGameResult () {
+    protected void startRenderer (Renderer renderer) {
+        this.renderer = renderer;
+        renderer.start(surfaceHolder, scene);
+        rendererName = renderer.getName();
+    }
 
+    /**
+     * Sets whether frames only redraw the parts of the surface that bubbles have moved across.
+     * Only Renderers drawing on the CPU redraw part of the surface; the rest always redraw all of it.
+     *
+     * @param isDirtyRegionRendering true to redraw only the dirty region, false to redraw the
+     *                               whole surface every frame
+     */
+    public void setDirtyRegionRendering (boolean isDirtyRegionRendering) {
+        this.isDirtyRegionRendering = isDirtyRegionRendering;
+        Scene scene = this.scene;
+        if (scene != null) {
+            scene.setDirtyRegionRendering(isDirtyRegionRendering);
+        }
     }
 
+
     /**
      * Activities and Fragments are required to implement the OnGameViewListener.
      * Game context material is available through the listener.
@@ -405,8 +847,9 @@ public class GameView extends SurfaceView implements Runnable {
          *
          * @param gameId the gameId of the game played
          * @param time   the total time in milliseconds that the game took
+         * @param seed   the seed every round of the game was generated from
          */
-        void onGameEnd (long gameId, long time);
+        void onGameEnd (long gameId, long time, long seed);
     }
 }
 
@@ -0,0 +1,187 @@
+package ca.chrisbarrett.bubblecount.view;
+
+import android.content.Context;
+import android.opengl.GLSurfaceView;
+import android.util.AttributeSet;
+import android.util.DisplayMetrics;
+import android.view.MotionEvent;
+import android.view.SurfaceHolder;
+
+import javax.microedition.khronos.egl.EGLConfig;
+import javax.microedition.khronos.opengles.GL10;
+
+import ca.chrisbarrett.bubblecount.util.Logger;
+import ca.chrisbarrett.bubblecount.view.render.GlSceneDrawer;
+
+/**
+ * An alternative to {@link GameView} drawing with OpenGL ES 2.0 through a {@link GLSurfaceView}.
+ * The game is played by the same {@link GameSession} and reports to the same
+ * {@link GameView.OnGameViewListener}, so an Activity can host either View.
+ * <p/>
+ * The GLSurfaceView's render thread is the game thread: each frame advances the session to the
+ * current time and draws it with a {@link GlSceneDrawer}, which uploads the sprite sheet and glyph
+ * atlas once and draws every bubble, then every label, in a single draw call each. Frames are paced
+ * by the display, as buffer swaps wait for vsync.
+ * <p/>
+ * A round shows no more bubbles than its engine has labels, nor more than the cached Poisson
+ * layouts hold centres at {@link ca.chrisbarrett.bubblecount.view.game.model.SpriteStore#DEFAULT_RADIUS}:
+ * 10 on a 720 x 1280 screen, 23 on 1080 x 1920 and 59 on 1800 x 2880. {@link #MAX_SPRITES} is
+ * sized to that limit rather than to what the sprite batch could draw.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.GlSceneDrawer
+ * @since Oct 17, 2026
+ */
+public class GlGameView extends GLSurfaceView implements GLSurfaceView.Renderer, GameScreen {
+
+    public static final int MAX_SPRITES = 64;
+    private static final String TAG = "GlGameView";
+
+    private final GameSession session;
+    private final GlSceneDrawer drawer = new GlSceneDrawer();
+    private final Runnable stopSession;
+    private volatile boolean isStartPending;
+    private volatile boolean isSessionStarted;
+    private int surfaceWidth;
+    private int surfaceHeight;
+
+    /**
+     * Default constructor when inflated programmatically
+     *
+     * @param context Context on which the GlGameView is displayed
+     */
+    public GlGameView (Context context) {
+        this(context, null);
+    }
+
+    /**
+     * Default constructor when inflated from XML file
+     *
+     * @param context Context on which the GlGameView is displayed
+     * @param attrs   optional attributes provided by the XML file
+     */
+    public GlGameView (Context context, AttributeSet attrs) {
+        super(context, attrs);
+        Logger.d(TAG, "Instantiating GlGameView");
+        GameView.OnGameViewListener gameListener;
+        try {
+            gameListener = (GameView.OnGameViewListener) context;
+        } catch (ClassCastException e) {
+            throw new ClassCastException(context.toString() + " must implement OnGameViewListener");
+        }
+        session = new GameSession(context, gameListener, MAX_SPRITES);
+        stopSession = new Runnable() {
+            @Override
+            public void run () {
+                isSessionStarted = false;
+                session.stop();
+                drawer.release();
+            }
+        };
+        setEGLContextClientVersion(2);
+        setRenderer(this);
+        setRenderMode(RENDERMODE_CONTINUOUSLY);
+    }
+
+    //
+    // Life cycle events begin here
+    //
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * A new game is started once the GL context has been created.
+     */
+    @Override
+    public void onResume () {
+        Logger.d(TAG, "GlGameView onResume called");
+        isStartPending = true;
+        super.onResume();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * The session is stopped and the drawer's textures and shaders are deleted on the render
+     * thread while the GL context is still current. This blocks until the render thread has
+     * finished its frame and released the EGL surface.
+     */
+    @Override
+    public void onPause () {
+        Logger.d(TAG, "GlGameView onPause called");
+        queueEvent(stopSession);
+        super.onPause();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Called on the render thread whenever a new GL context is created, including after every
+     * pause. Textures do not survive the old context, so they are uploaded again.
+     */
+    @Override
+    public void onSurfaceCreated (GL10 gl, EGLConfig config) {
+        if (isStartPending) {
+            DisplayMetrics metrics = getResources().getDisplayMetrics();
+            session.start(metrics.widthPixels, metrics.heightPixels);
+            isStartPending = false;
+            isSessionStarted = true;
+        }
+        drawer.create(session.getScene());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void surfaceDestroyed (SurfaceHolder holder) {
+        Logger.d(TAG, "Surface destroyed.");
+        // blocks until the render thread has finished its frame and destroyed the EGL surface
+        super.surfaceDestroyed(holder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSurfaceChanged (GL10 gl, int width, int height) {
+        surfaceWidth = width;
+        surfaceHeight = height;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDrawFrame (GL10 gl) {
+        if (!isSessionStarted) {
+            // the session's Rounds have gone back to the pool
+            return;
+        }
+        float interpolation = 0;
+        if (!session.isGameOver()) {
+            interpolation = session.advance(System.nanoTime());
+        }
+        drawer.draw(interpolation, surfaceWidth, surfaceHeight);
+        // the buffers are swapped as soon as this returns
+        session.onFramePosted(System.nanoTime());
+    }
+
+    /**
+     * Monitors the screen for touches, which are queued for the {@link GameSession} to handle on
+     * the game thread
+     *
+     * @param event
+     * @return
+     */
+    @Override
+    public boolean onTouchEvent (MotionEvent event) {
+        switch (event.getAction()) {
+            case MotionEvent.ACTION_DOWN:
+                if (isSessionStarted) {
+                    session.onTouch(event.getX(), event.getY(), event.getEventTime());
+                }
+        }
+        return super.onTouchEvent(event);
+    }
+}
@@ -0,0 +1,246 @@
+package ca.chrisbarrett.bubblecount.view;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.support.v4.content.ContextCompat;
+
+import ca.chrisbarrett.bubblecount.R;
+import ca.chrisbarrett.bubblecount.game.GameEngine;
+import ca.chrisbarrett.bubblecount.util.GlyphAtlas;
+import ca.chrisbarrett.bubblecount.util.LayoutCache;
+import ca.chrisbarrett.bubblecount.util.Logger;
+import ca.chrisbarrett.bubblecount.util.TextBatch;
+import ca.chrisbarrett.bubblecount.view.game.model.Round;
+import ca.chrisbarrett.bubblecount.view.game.model.RoundGenerator;
+import ca.chrisbarrett.bubblecount.view.game.model.RoundPool;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteImage;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteStore;
+
+/**
+ * Prepares rounds on a background thread, one round ahead of the game. Two {@link Round}s are
+ * kept: the front Round is played on the game thread while the back Round is filled by a worker
+ * thread. When a round is won, {@link #swap(boolean)} makes the back Round the front, returns the
+ * old front Round to the {@link RoundPool} and has the worker fill a Round taken from the pool, so
+ * starting a round costs the game thread a pointer swap instead of a call to
+ * {@link GameEngine#randomize()} and the placement of every bubble.
+ * <p/>
+ * The {@link GameEngine} is only used by the worker once the pipeline has started. The worker
+ * draws the question bar with its own TextBatch and Paint, sharing only the read only glyph atlas
+ * with the game thread.
+ * <p/>
+ * Rounds are numbered from 1 as they are taken from the pool, and generated by a
+ * {@link RoundGenerator} from the seed of the game and their number. Any round of a game can be
+ * regenerated from the seed logged and saved with the game's result.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.Round
+ * @since Oct 17, 2026
+ */
+public class RoundPipeline {
+
+    private static final String TAG = "RoundPipeline";
+
+    private final GameEngine gameEngine;
+    private final TextBatch textBatch;
+    private final Paint textPaint;
+    private final Paint barPaint;
+    private final Canvas barCanvas = new Canvas();
+    private final int secondaryBackgroundColor;
+    private final int dividerColor;
+    private final float screenWidth;
+    private final float gameAreaHeight;
+    private final float textAreaHeight;
+    private final float questionBaseline;
+    private final RoundGenerator generator;
+    private final Object lock = new Object();
+    private final Runnable prepareBack;
+    private final RoundPool roundPool;
+    private HandlerThread workerThread;
+    private Handler worker;
+    private Round front;
+    private Round back;
+    private boolean isBackReady;
+    private volatile boolean isPreparing;
+    private int nextRoundNumber;
+
+    /**
+     * Constructor
+     *
+     * @param context          Context the game is played in
+     * @param gameEngine       the engine generating the questions
+     * @param spriteImage      the sprite sheet the bubbles are cut from
+     * @param atlas            the glyphs the question is drawn with
+     * @param textPaint        the Paint whose colour tints the question. It is not modified
+     * @param roundPool        where Rounds are taken from and returned to
+     * @param screenWidth      the width of the screen
+     * @param gameAreaHeight   the height of the game area
+     * @param textAreaHeight   the height of the text area
+     * @param questionBaseline the baseline of the question within the text area
+     * @param seed             the seed every round of the game is generated from
+     */
+    public RoundPipeline (Context context, GameEngine gameEngine, SpriteImage spriteImage, GlyphAtlas atlas,
+                          Paint textPaint, RoundPool roundPool, float screenWidth, float gameAreaHeight,
+                          float textAreaHeight, float questionBaseline, long seed) {
+        this.gameEngine = gameEngine;
+        this.textBatch = new TextBatch(atlas, GameSession.MAX_GLYPHS);
+        this.textPaint = textPaint;
+        this.barPaint = new Paint();
+        this.secondaryBackgroundColor = ContextCompat.getColor(context, R.color.secondaryBackground);
+        this.dividerColor = ContextCompat.getColor(context, R.color.divider);
+        this.screenWidth = screenWidth;
+        this.gameAreaHeight = gameAreaHeight;
+        this.textAreaHeight = textAreaHeight;
+        this.questionBaseline = questionBaseline;
+        this.generator = new RoundGenerator(gameEngine,
+                LayoutCache.getLayouts(screenWidth, gameAreaHeight, SpriteStore.DEFAULT_RADIUS),
+                screenWidth, gameAreaHeight, spriteImage.getTotalFrames(), seed);
+        this.roundPool = roundPool;
+        prepareBack = new Runnable() {
+            @Override
+            public void run () {
+                Round round;
+                synchronized (lock) {
+                    round = back;
+                }
+                prepareRound(round);
+                synchronized (lock) {
+                    isBackReady = true;
+                    lock.notifyAll();
+                }
+                isPreparing = false;
+            }
+        };
+    }
+
+    /**
+     * Prepares the first round on the calling thread, then starts the worker preparing the second
+     *
+     * @param isAnotherRound true if the game has more than one round
+     * @return the first Round
+     */
+    public Round start (boolean isAnotherRound) {
+        front = roundPool.acquire();
+        front.setNumber(1);
+        back = roundPool.acquire();
+        back.setNumber(2);
+        nextRoundNumber = 3;
+        prepareRound(front);
+        workerThread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        workerThread.start();
+        worker = new Handler(workerThread.getLooper());
+        if (isAnotherRound) {
+            isPreparing = true;
+            worker.post(prepareBack);
+        }
+        return front;
+    }
+
+    /**
+     * Makes the prepared Round the front Round. Blocks only if the worker has not yet finished
+     * preparing it.
+     *
+     * @param isAnotherRound true if a further round will be needed, in which case the worker
+     *                       prepares a Round from the pool
+     * @return the new front Round
+     */
+    public Round swap (boolean isAnotherRound) {
+        synchronized (lock) {
+            if (!isBackReady) {
+                Logger.w(TAG, "Waiting for the next round to be prepared.");
+            }
+            while (!isBackReady) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Logger.e(TAG, e.getMessage());
+                }
+            }
+            Round played = front;
+            front = back;
+            roundPool.release(played);
+            back = roundPool.acquire();
+            back.setNumber(nextRoundNumber++);
+            isBackReady = false;
+        }
+        if (isAnotherRound) {
+            isPreparing = true;
+            worker.post(prepareBack);
+        }
+        return front;
+    }
+
+    /**
+     * Checks whether the worker is idle. Called from any thread.
+     *
+     * @return false while a round is queued or being prepared
+     */
+    public boolean isIdle () {
+        return !isPreparing;
+    }
+
+    /**
+     * Stops the worker, waiting for any round it is preparing, and returns both Rounds to the pool.
+     * Neither Round may be drawn afterwards.
+     */
+    public void stop () {
+        if (workerThread == null) {
+            return;
+        }
+        workerThread.quit();
+        try {
+            workerThread.join();
+        } catch (InterruptedException e) {
+            Logger.e(TAG, e.getMessage());
+        }
+        workerThread = null;
+        worker = null;
+        isPreparing = false;
+        synchronized (lock) {
+            roundPool.release(front);
+            roundPool.release(back);
+            front = null;
+            back = null;
+            isBackReady = false;
+        }
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Sets up a round, with its question and bubbles generated by the {@link RoundGenerator}
+     *
+     * @param round the Round to fill, already numbered
+     */
+    protected void prepareRound (Round round) {
+        generator.generate(round.getNumber(), round.getSprites(), round.getSpatialHash());
+        round.setAnswerCode(gameEngine.getCorrectCode());
+        round.setQuestion(gameEngine.getQuestion());
+        renderQuestionBar(round);
+        Logger.d(TAG, "Preparing Round %d is complete.", round.getNumber());
+    }
+
+    /**
+     * Helper method to redraw the text area, with the question of a Round, into its question bar
+     * Bitmap
+     *
+     * @param round the Round
+     */
+    protected void renderQuestionBar (Round round) {
+        barCanvas.setBitmap(round.getQuestionBar());
+        barPaint.setColor(secondaryBackgroundColor);
+        barCanvas.drawRect(0, 0, screenWidth, textAreaHeight, barPaint);
+        barPaint.setColor(dividerColor);
+        barCanvas.drawRect(0, 0, screenWidth, 5, barPaint);
+        barCanvas.drawRect(gameAreaHeight, screenWidth - 5 - gameAreaHeight, screenWidth, textAreaHeight, barPaint);
+        textBatch.begin();
+        textBatch.add(round.getQuestion(), screenWidth / 2f, questionBaseline);
+        textBatch.flush(barCanvas, textPaint);
+        barCanvas.setBitmap(null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import android.graphics.Bitmap;
+
+/**
+ * Everything that changes from one round to the next: the bubbles, the grid used to find them,
+ * the rendered question bar, and the question and answer themselves. Rounds are double buffered;
+ * one is played while the other is prepared, and the two are swapped when a round is won. Rounds
+ * are taken from and returned to a {@link RoundPool}, so they outlive a single game.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.RoundPipeline
+ * @since Oct 17, 2026
+ */
+public class Round {
+
+    private final SpriteStore sprites;
+    private final SpatialHash spatialHash;
+    private final Bitmap questionBar;
+    private String question;
+    private int answerCode;
+    private int number;
+
+    /**
+     * Constructor. Allocates everything a round needs, so preparing a round reuses it.
+     *
+     * @param maxSprites     the most bubbles in a round
+     * @param width          the width of the game area
+     * @param gameAreaHeight the height of the game area
+     * @param questionBar    the Bitmap the question is rendered into
+     */
+    public Round (int maxSprites, float width, float gameAreaHeight, Bitmap questionBar) {
+        this.sprites = new SpriteStore(maxSprites);
+        this.spatialHash = new SpatialHash(sprites, width, gameAreaHeight, SpriteStore.DEFAULT_RADIUS * 2);
+        this.questionBar = questionBar;
+    }
+
+    /**
+     * Empties the Round so it can be prepared again
+     */
+    public void reset () {
+        sprites.clear();
+        spatialHash.clear();
+        question = null;
+        answerCode = 0;
+        number = 0;
+    }
+
+    public SpriteStore getSprites () {
+        return sprites;
+    }
+
+    public SpatialHash getSpatialHash () {
+        return spatialHash;
+    }
+
+    public Bitmap getQuestionBar () {
+        return questionBar;
+    }
+
+    public String getQuestion () {
+        return question;
+    }
+
+    public void setQuestion (String question) {
+        this.question = question;
+    }
+
+    /**
+     * Gets the answer as a code into the labels of the Round's {@link SpriteStore}
+     *
+     * @return the code of the correct bubble
+     */
+    public int getAnswerCode () {
+        return answerCode;
+    }
+
+    public void setAnswerCode (int answerCode) {
+        this.answerCode = answerCode;
+    }
+
+    /**
+     * Gets the number of the round in its game, which with the game's seed decides its content
+     *
+     * @return the round number, from 1
+     */
+    public int getNumber () {
+        return number;
+    }
+
+    public void setNumber (int number) {
+        this.number = number;
+    }
+}
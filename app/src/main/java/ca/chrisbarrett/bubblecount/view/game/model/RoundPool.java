@@ -0,0 +1,119 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import android.graphics.Bitmap;
+
+/**
+ * Fixed capacity pool of {@link Round}s of one size. A Round holds every per-round allocation,
+ * the {@link SpriteStore}, the {@link SpatialHash} and the question bar Bitmap, so reusing Rounds
+ * keeps the heap flat across the rounds of a game and from one game to the next.
+ * <p/>
+ * {@link #acquire()} hands out a pooled Round when one is free, counting a hit, and otherwise
+ * allocates a new one, counting a miss. {@link #release(Round)} resets the Round and keeps it
+ * unless the pool is full, in which case its Bitmap is recycled. The pool is thread safe.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.Round
+ * @since Oct 17, 2026
+ */
+public class RoundPool {
+
+    private final Round[] free;
+    private final int maxSprites;
+    private final float width;
+    private final float gameAreaHeight;
+    private final int barWidth;
+    private final int barHeight;
+    private int freeCount;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Constructor. No Rounds are allocated until they are first acquired.
+     *
+     * @param size           the most free Rounds kept
+     * @param maxSprites     the most bubbles in a round
+     * @param width          the width of the game area
+     * @param gameAreaHeight the height of the game area
+     * @param barWidth       the width of the question bar Bitmap
+     * @param barHeight      the height of the question bar Bitmap
+     */
+    public RoundPool (int size, int maxSprites, float width, float gameAreaHeight, int barWidth,
+                      int barHeight) {
+        this.free = new Round[size];
+        this.maxSprites = maxSprites;
+        this.width = width;
+        this.gameAreaHeight = gameAreaHeight;
+        this.barWidth = barWidth;
+        this.barHeight = barHeight;
+    }
+
+    /**
+     * Takes a Round from the pool, or allocates one if none are free
+     *
+     * @return an empty Round
+     */
+    public synchronized Round acquire () {
+        if (freeCount > 0) {
+            hitCount++;
+            Round round = free[--freeCount];
+            free[freeCount] = null;
+            return round;
+        }
+        missCount++;
+        return new Round(maxSprites, width, gameAreaHeight,
+                Bitmap.createBitmap(barWidth, barHeight, Bitmap.Config.ARGB_8888));
+    }
+
+    /**
+     * Returns a Round to the pool. The Round must not be used by the caller afterwards.
+     *
+     * @param round a Round acquired from this pool
+     */
+    public synchronized void release (Round round) {
+        round.reset();
+        if (freeCount < free.length) {
+            free[freeCount++] = round;
+        } else {
+            round.getQuestionBar().recycle();
+        }
+    }
+
+    /**
+     * Drops every free Round and recycles its Bitmap
+     */
+    public synchronized void clear () {
+        for (int i = 0; i < freeCount; i++) {
+            free[i].getQuestionBar().recycle();
+            free[i] = null;
+        }
+        freeCount = 0;
+    }
+
+    /**
+     * Checks whether the pool holds Rounds of the given size
+     *
+     * @return true if Rounds from this pool fit
+     */
+    public boolean matches (int maxSprites, float width, float gameAreaHeight, int barWidth,
+                            int barHeight) {
+        return this.maxSprites == maxSprites && this.width == width
+                && this.gameAreaHeight == gameAreaHeight && this.barWidth == barWidth
+                && this.barHeight == barHeight;
+    }
+
+    public int getSize () {
+        return free.length;
+    }
+
+    public synchronized int getFreeCount () {
+        return freeCount;
+    }
+
+    public synchronized int getHitCount () {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount () {
+        return missCount;
+    }
+}
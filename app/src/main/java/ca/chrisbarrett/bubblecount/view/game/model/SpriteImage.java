@@ -3,13 +3,14 @@ package ca.chrisbarrett.bubblecount.view.game.model;
 import android.graphics.Bitmap;
 import android.graphics.Rect;
 
-import ca.chrisbarrett.bubblecount.util.Values;
-
 /**
- * Used to hold an image for a sprite
+ * Used to hold a sprite sheet image. The image is divided horizontally into equally sized frames.
+ * A single SpriteImage is shared by every Sprite drawn from the sheet, along with the
+ * {@link FrameTable} of its squish animation; each Sprite only keeps its phase in the
+ * {@link SpriteStore}.
  *
  * @author Chris Barrett
- * @see ca.chrisbarrett.bubblecount.view.game.model.Sprite
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpriteStore
  * @since Jul 19, 2016
  */
 public class SpriteImage {
@@ -20,36 +21,44 @@ public class SpriteImage {
     private int totalFrames;
     private int frameHeight;
     private int frameWidth;
-    private Rect whatToDraw;
-    private int currentFrame;
-    private boolean isSquish;
+    private final FrameTable frameTable;
 
     public SpriteImage (Bitmap image, int totalFrames) {
-        isSquish = Values.RANDOM.nextBoolean();
         this.totalFrames = totalFrames;
         this.image = image;
         this.frameHeight = image.getHeight();
         this.frameWidth = image.getWidth() / totalFrames;
-        int frame = Values.RANDOM.nextInt(totalFrames);
-        this.whatToDraw = new Rect(frame * frameWidth, 0, frame * frameWidth + frameWidth, frameHeight);
+        this.frameTable = new FrameTable(totalFrames, frameWidth, frameHeight);
     }
 
     public Bitmap getImage () {
         return image;
     }
 
-    public Rect getWhatToDraw () {
-        return whatToDraw;
+    public int getTotalFrames () {
+        return totalFrames;
+    }
+
+    public int getFrameWidth () {
+        return frameWidth;
+    }
+
+    public int getFrameHeight () {
+        return frameHeight;
+    }
+
+    public FrameTable getFrameTable () {
+        return frameTable;
     }
 
-    public void animate () {
-        if (++currentFrame % 12 == 0) {
-            isSquish = !isSquish;
-        }
-        if (isSquish) {
-            whatToDraw.set(whatToDraw.left + 1, whatToDraw.top - 1, whatToDraw.right - 1, whatToDraw.bottom + 1);
-        } else {
-            whatToDraw.set(whatToDraw.left - 1, whatToDraw.top + 1, whatToDraw.right + 1, whatToDraw.bottom - 1);
-        }
+    /**
+     * Gets the portion of the image to display for a frame, unsquished
+     *
+     * @param frame      the frame of the sheet
+     * @param whatToDraw receives the source rectangle
+     */
+    public void getWhatToDraw (int frame, Rect whatToDraw) {
+        int left = frame * frameWidth;
+        whatToDraw.set(left, 0, left + frameWidth, frameHeight);
     }
 }
@@ -0,0 +1,117 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.view.SurfaceHolder;
+
+import ca.chrisbarrett.bubblecount.util.BubbleBitmapCache;
+import ca.chrisbarrett.bubblecount.util.TextBatch;
+import ca.chrisbarrett.bubblecount.view.game.model.FrameTable;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteStore;
+
+/**
+ * Base for Renderers drawing through the {@link Canvas} API. The text area is a single blit of the
+ * question bar, and each bubble, label included, is a single blit of a Bitmap from the
+ * {@link BubbleBitmapCache}. Subclasses decide how a Canvas for the surface is obtained.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.util.BubbleBitmapCache
+ * @since Oct 17, 2026
+ */
+public abstract class CanvasRenderer implements Renderer {
+
+    protected SurfaceHolder holder;
+    protected Scene scene;
+    private final Rect whatToDraw = new Rect();
+    private final RectF whereToDraw = new RectF();
+    private TextBatch overlay;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start (SurfaceHolder holder, Scene scene) {
+        this.holder = holder;
+        this.scene = scene;
+        // the overlay has its own batch, as its lines do not fit in the Scene's
+        if (overlay == null || overlay.getAtlas() != scene.getTextBatch().getAtlas()) {
+            overlay = new TextBatch(scene.getTextBatch().getAtlas(), Scene.MAX_OVERLAY_GLYPHS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSurfaceChanged () {
+        invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop () {
+        holder = null;
+        scene = null;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to draw the whole Scene. Anything outside the Canvas clip is skipped by the
+     * Canvas itself.
+     *
+     * @param canvas        the Canvas to draw on
+     * @param scene         the Scene to draw
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
+     */
+    protected void drawScene (Canvas canvas, Scene scene, float interpolation) {
+        SpriteStore sprites = scene.getSprites();
+        BubbleBitmapCache bubbleCache = scene.getBubbleCache();
+        FrameTable frameTable = scene.getSpriteImage().getFrameTable();
+        canvas.drawColor(scene.getBackgroundColor());
+        canvas.drawBitmap(scene.getQuestionBar(), 0, scene.getGameAreaHeight(), null);
+        int size = sprites.size();
+        for (int i = 0; i < size; i++) {
+            if (!sprites.getVisibility(i)) {
+                continue;
+            }
+            float x = sprites.getX(i, interpolation);
+            float y = sprites.getY(i, interpolation);
+            float radius = sprites.getRadius(i);
+            Bitmap bubble = bubbleCache.get(sprites.getText(i), sprites.getFrame(i), radius);
+            bubbleCache.getWhatToDraw(frameTable.getSquish(sprites.getPhase(i)), radius, whatToDraw);
+            whereToDraw.set(x - radius, y - radius, x + radius, y + radius);
+            canvas.drawBitmap(bubble, whatToDraw, whereToDraw, scene.getDrawPaint());
+        }
+        if (scene.isOverlayVisible()) {
+            drawOverlay(canvas, scene);
+        }
+    }
+
+    /**
+     * Helper method to draw the debug overlay over the top of the game area
+     *
+     * @param canvas the Canvas to draw on
+     * @param scene  the Scene whose overlay is drawn
+     */
+    protected void drawOverlay (Canvas canvas, Scene scene) {
+        float centerX = scene.getWidth() / 2 / Scene.OVERLAY_SCALE;
+        overlay.begin();
+        for (int line = 0; line < Scene.OVERLAY_LINES; line++) {
+            String text = scene.getOverlayLine(line);
+            if (text != null) {
+                overlay.add(text, centerX, scene.getOverlayBaseline(line));
+            }
+        }
+        canvas.save();
+        canvas.scale(Scene.OVERLAY_SCALE, Scene.OVERLAY_SCALE);
+        overlay.flush(canvas, scene.getTextPaint());
+        canvas.restore();
+    }
+}
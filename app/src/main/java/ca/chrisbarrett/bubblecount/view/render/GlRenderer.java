@@ -0,0 +1,241 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.annotation.TargetApi;
+import android.opengl.EGL14;
+import android.opengl.EGLConfig;
+import android.opengl.EGLContext;
+import android.opengl.EGLDisplay;
+import android.opengl.EGLSurface;
+import android.opengl.GLES20;
+import android.os.Build;
+import android.view.SurfaceHolder;
+
+import ca.chrisbarrett.bubblecount.util.Logger;
+
+/**
+ * Renderer drawing with OpenGL ES 2.0 through a {@link GlSceneDrawer}. The game thread owns an
+ * EGL context, created with {@link EGL14} and therefore available from API 17, and draws straight
+ * onto the SurfaceView's surface. A 1 x 1 pbuffer keeps the context current while there is no
+ * window surface, so textures survive the surface being recreated.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.GlSceneDrawer
+ * @since Oct 17, 2026
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR1)
+public class GlRenderer implements Renderer {
+
+    public static final String NAME = "gles2";
+    private static final String TAG = "GlRenderer";
+
+    private final GlSceneDrawer drawer = new GlSceneDrawer();
+    private final int[] surfaceSize = new int[1];
+    private SurfaceHolder holder;
+    private EGLDisplay eglDisplay = EGL14.EGL_NO_DISPLAY;
+    private EGLConfig eglConfig;
+    private EGLContext eglContext = EGL14.EGL_NO_CONTEXT;
+    private EGLSurface placeholderSurface = EGL14.EGL_NO_SURFACE;
+    private EGLSurface windowSurface = EGL14.EGL_NO_SURFACE;
+    private int surfaceWidth;
+    private int surfaceHeight;
+    private boolean isFailed;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName () {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSupported () {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Frames are drawn into a pbuffer the size of the Scene, and the GPU is waited on before the
+     * time is taken.
+     */
+    @Override
+    public long benchmark (Scene scene, int frames) {
+        int width = (int) scene.getWidth();
+        int height = (int) scene.getGameAreaHeight() + scene.getQuestionBar().getHeight();
+        try {
+            createContext(width, height);
+            drawer.create(scene);
+            drawer.draw(0, width, height);
+            GLES20.glFinish();
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                drawer.draw((float) i / frames, width, height);
+            }
+            GLES20.glFinish();
+            return (System.nanoTime() - start) / frames;
+        } catch (IllegalStateException e) {
+            Logger.e(TAG, "Benchmark failed: %s", e.getMessage());
+            return BENCHMARK_FAILED;
+        } finally {
+            stop();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start (SurfaceHolder holder, Scene scene) {
+        this.holder = holder;
+        try {
+            createContext(1, 1);
+            drawer.create(scene);
+        } catch (IllegalStateException e) {
+            Logger.e(TAG, "Unable to start: %s", e.getMessage());
+            isFailed = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean render (float interpolation) {
+        if (isFailed) {
+            return false;
+        }
+        if (!holder.getSurface().isValid()) {
+            return true;
+        }
+        if (windowSurface == EGL14.EGL_NO_SURFACE) {
+            windowSurface = EGL14.eglCreateWindowSurface(eglDisplay, eglConfig, holder.getSurface(),
+                    new int[]{EGL14.EGL_NONE}, 0);
+            if (windowSurface == null || windowSurface == EGL14.EGL_NO_SURFACE) {
+                Logger.e(TAG, "Unable to create window surface: 0x%x", EGL14.eglGetError());
+                windowSurface = EGL14.EGL_NO_SURFACE;
+                return false;
+            }
+            EGL14.eglQuerySurface(eglDisplay, windowSurface, EGL14.EGL_WIDTH, surfaceSize, 0);
+            surfaceWidth = surfaceSize[0];
+            EGL14.eglQuerySurface(eglDisplay, windowSurface, EGL14.EGL_HEIGHT, surfaceSize, 0);
+            surfaceHeight = surfaceSize[0];
+        }
+        EGL14.eglMakeCurrent(eglDisplay, windowSurface, windowSurface, eglContext);
+        drawer.draw(interpolation, surfaceWidth, surfaceHeight);
+        if (!EGL14.eglSwapBuffers(eglDisplay, windowSurface)) {
+            int error = EGL14.eglGetError();
+            Logger.w(TAG, "Swap failed: 0x%x", error);
+            releaseWindowSurface();
+            // a lost context takes the textures with it; anything else is the surface going away
+            return error != EGL14.EGL_CONTEXT_LOST;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Every frame is a full redraw, so there is nothing to do.
+     */
+    @Override
+    public void invalidate () {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSurfaceChanged () {
+        releaseWindowSurface();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop () {
+        if (eglDisplay == EGL14.EGL_NO_DISPLAY) {
+            return;
+        }
+        if (eglContext != EGL14.EGL_NO_CONTEXT) {
+            releaseWindowSurface();
+            drawer.release();
+            EGL14.eglMakeCurrent(eglDisplay, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
+            EGL14.eglDestroyContext(eglDisplay, eglContext);
+            eglContext = EGL14.EGL_NO_CONTEXT;
+        }
+        if (placeholderSurface != EGL14.EGL_NO_SURFACE) {
+            EGL14.eglDestroySurface(eglDisplay, placeholderSurface);
+            placeholderSurface = EGL14.EGL_NO_SURFACE;
+        }
+        EGL14.eglReleaseThread();
+        eglDisplay = EGL14.EGL_NO_DISPLAY;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to create the EGL context and make it current on a pbuffer
+     *
+     * @param width  the width of the pbuffer
+     * @param height the height of the pbuffer
+     * @throws IllegalStateException if any EGL call fails
+     */
+    private void createContext (int width, int height) {
+        eglDisplay = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
+        int[] version = new int[2];
+        if (eglDisplay == EGL14.EGL_NO_DISPLAY || !EGL14.eglInitialize(eglDisplay, version, 0, version, 1)) {
+            eglDisplay = EGL14.EGL_NO_DISPLAY;
+            throw new IllegalStateException("Unable to initialise EGL");
+        }
+        int[] configAttributes = {
+                EGL14.EGL_RED_SIZE, 8,
+                EGL14.EGL_GREEN_SIZE, 8,
+                EGL14.EGL_BLUE_SIZE, 8,
+                EGL14.EGL_ALPHA_SIZE, 8,
+                EGL14.EGL_RENDERABLE_TYPE, EGL14.EGL_OPENGL_ES2_BIT,
+                EGL14.EGL_SURFACE_TYPE, EGL14.EGL_WINDOW_BIT | EGL14.EGL_PBUFFER_BIT,
+                EGL14.EGL_NONE
+        };
+        EGLConfig[] configs = new EGLConfig[1];
+        int[] configCount = new int[1];
+        if (!EGL14.eglChooseConfig(eglDisplay, configAttributes, 0, configs, 0, 1, configCount, 0)
+                || configCount[0] == 0) {
+            throw new IllegalStateException("No EGL config for OpenGL ES 2.0");
+        }
+        eglConfig = configs[0];
+        eglContext = EGL14.eglCreateContext(eglDisplay, eglConfig, EGL14.EGL_NO_CONTEXT,
+                new int[]{EGL14.EGL_CONTEXT_CLIENT_VERSION, 2, EGL14.EGL_NONE}, 0);
+        if (eglContext == null || eglContext == EGL14.EGL_NO_CONTEXT) {
+            eglContext = EGL14.EGL_NO_CONTEXT;
+            throw new IllegalStateException("Unable to create EGL context: 0x" + Integer.toHexString(EGL14.eglGetError()));
+        }
+        placeholderSurface = EGL14.eglCreatePbufferSurface(eglDisplay, eglConfig,
+                new int[]{EGL14.EGL_WIDTH, width, EGL14.EGL_HEIGHT, height, EGL14.EGL_NONE}, 0);
+        if (placeholderSurface == null || placeholderSurface == EGL14.EGL_NO_SURFACE) {
+            placeholderSurface = EGL14.EGL_NO_SURFACE;
+            throw new IllegalStateException("Unable to create pbuffer: 0x" + Integer.toHexString(EGL14.eglGetError()));
+        }
+        if (!EGL14.eglMakeCurrent(eglDisplay, placeholderSurface, placeholderSurface, eglContext)) {
+            throw new IllegalStateException("Unable to make EGL context current: 0x" + Integer.toHexString(EGL14.eglGetError()));
+        }
+    }
+
+    /**
+     * Helper method to destroy the window surface, keeping the context current on the pbuffer
+     */
+    private void releaseWindowSurface () {
+        if (windowSurface == EGL14.EGL_NO_SURFACE) {
+            return;
+        }
+        EGL14.eglMakeCurrent(eglDisplay, placeholderSurface, placeholderSurface, eglContext);
+        EGL14.eglDestroySurface(eglDisplay, windowSurface);
+        windowSurface = EGL14.EGL_NO_SURFACE;
+    }
+}
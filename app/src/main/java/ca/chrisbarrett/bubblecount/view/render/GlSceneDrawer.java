@@ -0,0 +1,178 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.Rect;
+import android.opengl.GLES20;
+
+import ca.chrisbarrett.bubblecount.core.IntRect;
+import ca.chrisbarrett.bubblecount.util.GlyphAtlas;
+import ca.chrisbarrett.bubblecount.util.TextBatch;
+import ca.chrisbarrett.bubblecount.view.game.model.FrameTable;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteImage;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteStore;
+
+/**
+ * Draws a {@link Scene} with OpenGL ES 2.0 into whatever surface is current. The sprite sheet and
+ * the glyph atlas are uploaded once as textures, and the question bar is uploaded again only when
+ * it changes. Each frame is then three draw calls through a {@link GlSpriteBatch}: the question
+ * bar, every bubble from the sheet, and every label, and the debug overlay when shown, from the
+ * atlas.
+ * <p/>
+ * Owning the GL context is left to the caller, so the same drawer serves an EGL context on a
+ * SurfaceView and the context of a GLSurfaceView. Every method must be called on the thread
+ * holding the context.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.GlSpriteBatch
+ * @since Oct 17, 2026
+ */
+public class GlSceneDrawer {
+
+    private static final int MAX_LABEL_GLYPHS = 8;
+
+    private final Rect source = new Rect();
+    private final IntRect frameSource = new IntRect();
+    private Scene scene;
+    private GlSpriteBatch batch;
+    private TextBatch labels;
+    private TextBatch overlay;
+    private int sheetTexture;
+    private int glyphTexture;
+    private int questionBarTexture;
+    private int questionBarVersion;
+
+    /**
+     * Compiles the shaders and uploads the textures of a Scene
+     *
+     * @param scene the Scene to draw
+     * @throws IllegalStateException if the shaders cannot be built
+     */
+    public void create (Scene scene) {
+        this.scene = scene;
+        int capacity = scene.getSprites().capacity();
+        GlyphAtlas atlas = scene.getTextBatch().getAtlas();
+        labels = new TextBatch(atlas, capacity * MAX_LABEL_GLYPHS);
+        overlay = new TextBatch(atlas, Scene.MAX_OVERLAY_GLYPHS);
+        batch = new GlSpriteBatch(Math.min(capacity * MAX_LABEL_GLYPHS + Scene.MAX_OVERLAY_GLYPHS, GlSpriteBatch.MAX_QUADS));
+        batch.create();
+        sheetTexture = GlSpriteBatch.createTexture(scene.getSpriteImage().getImage());
+        glyphTexture = GlSpriteBatch.createTexture(atlas.getImage());
+        questionBarTexture = GlSpriteBatch.createTexture(scene.getQuestionBar());
+        questionBarVersion = scene.getQuestionBarVersion();
+    }
+
+    /**
+     * Draws a full frame
+     *
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
+     * @param width         the width of the surface in pixels
+     * @param height        the height of the surface in pixels
+     */
+    public void draw (float interpolation, int width, int height) {
+        GLES20.glViewport(0, 0, width, height);
+        batch.setProjection(width, height);
+        int background = scene.getBackgroundColor();
+        GLES20.glClearColor(Color.red(background) / 255f, Color.green(background) / 255f,
+                Color.blue(background) / 255f, Color.alpha(background) / 255f);
+        GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT);
+        GLES20.glEnable(GLES20.GL_BLEND);
+        GLES20.glBlendFunc(GLES20.GL_ONE, GLES20.GL_ONE_MINUS_SRC_ALPHA);
+
+        Bitmap questionBar = scene.getQuestionBar();
+        if (questionBarVersion != scene.getQuestionBarVersion()) {
+            GlSpriteBatch.updateTexture(questionBarTexture, questionBar);
+            questionBarVersion = scene.getQuestionBarVersion();
+        }
+        float barTop = scene.getGameAreaHeight();
+        batch.begin(questionBarTexture, questionBar.getWidth(), questionBar.getHeight(), false, Color.WHITE);
+        batch.add(0, 0, questionBar.getWidth(), questionBar.getHeight(),
+                0, barTop, questionBar.getWidth(), barTop + questionBar.getHeight());
+        batch.end();
+
+        SpriteStore sprites = scene.getSprites();
+        SpriteImage spriteImage = scene.getSpriteImage();
+        FrameTable frameTable = spriteImage.getFrameTable();
+        GlyphAtlas atlas = labels.getAtlas();
+        float labelOffset = -(atlas.getAscent() + atlas.getDescent()) / 2f;
+        batch.begin(sheetTexture, spriteImage.getImage().getWidth(), spriteImage.getImage().getHeight(),
+                false, Color.WHITE);
+        labels.begin();
+        int size = sprites.size();
+        for (int i = 0; i < size; i++) {
+            if (!sprites.getVisibility(i)) {
+                continue;
+            }
+            float x = sprites.getX(i, interpolation);
+            float y = sprites.getY(i, interpolation);
+            float radius = sprites.getRadius(i);
+            frameTable.getSource(sprites.getFrame(i), sprites.getPhase(i), frameSource);
+            batch.add(frameSource.left, frameSource.top, frameSource.right, frameSource.bottom,
+                    x - radius, y - radius, x + radius, y + radius);
+            labels.add(sprites.getText(i), x, y + labelOffset);
+        }
+        batch.end();
+
+        batch.begin(glyphTexture, atlas.getImage().getWidth(), atlas.getImage().getHeight(), true,
+                scene.getTextPaint().getColor());
+        float[] left = labels.getLeft();
+        float[] top = labels.getTop();
+        char[] glyphs = labels.getGlyphs();
+        for (int i = 0; i < labels.getCount(); i++) {
+            atlas.getSource(glyphs[i], source);
+            batch.add(source.left, source.top, source.right, source.bottom,
+                    left[i], top[i], left[i] + source.width(), top[i] + source.height());
+        }
+        labels.begin();
+        if (scene.isOverlayVisible()) {
+            addOverlay(atlas);
+        }
+        batch.end();
+    }
+
+    /**
+     * Deletes the textures and shaders. Must be called while the context is still current.
+     */
+    public void release () {
+        if (batch == null) {
+            return;
+        }
+        GlSpriteBatch.deleteTexture(sheetTexture);
+        GlSpriteBatch.deleteTexture(glyphTexture);
+        GlSpriteBatch.deleteTexture(questionBarTexture);
+        batch.release();
+        batch = null;
+        scene = null;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to add the debug overlay glyphs, scaled by {@link Scene#OVERLAY_SCALE}, to the
+     * glyph batch
+     *
+     * @param atlas the glyphs the batch is drawing from
+     */
+    private void addOverlay (GlyphAtlas atlas) {
+        float scale = Scene.OVERLAY_SCALE;
+        float centerX = scene.getWidth() / 2 / scale;
+        overlay.begin();
+        for (int line = 0; line < Scene.OVERLAY_LINES; line++) {
+            String text = scene.getOverlayLine(line);
+            if (text != null) {
+                overlay.add(text, centerX, scene.getOverlayBaseline(line));
+            }
+        }
+        float[] left = overlay.getLeft();
+        float[] top = overlay.getTop();
+        char[] glyphs = overlay.getGlyphs();
+        for (int i = 0; i < overlay.getCount(); i++) {
+            atlas.getSource(glyphs[i], source);
+            batch.add(source.left, source.top, source.right, source.bottom, left[i] * scale, top[i] * scale,
+                    (left[i] + source.width()) * scale, (top[i] + source.height()) * scale);
+        }
+        overlay.begin();
+    }
+}
@@ -0,0 +1,305 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.opengl.GLES20;
+import android.opengl.GLUtils;
+import android.opengl.Matrix;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Draws textured quads with OpenGL ES 2.0, batching every quad that shares a texture into a single
+ * draw call. Quads are given in pixels: source rectangles in texels of the texture, destination
+ * rectangles in pixels of the viewport with the origin at the top left, as with a Canvas.
+ * <p/>
+ * Textures are expected to hold premultiplied alpha, as Android Bitmaps do. Alpha only textures,
+ * such as the {@link ca.chrisbarrett.bubblecount.util.GlyphAtlas}, are tinted by a colour.
+ * <p/>
+ * Vertices are staged in a float array and copied into a direct buffer once per batch, so adding
+ * and drawing quads does not allocate. Every method except the constructor must be called on a
+ * thread with a current GL context.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.GlRenderer
+ * @since Oct 17, 2026
+ */
+public class GlSpriteBatch {
+
+    public static final int MAX_QUADS = Short.MAX_VALUE / 4;
+    private static final int FLOATS_PER_VERTEX = 4;
+    private static final int VERTICES_PER_QUAD = 4;
+    private static final int INDICES_PER_QUAD = 6;
+    private static final int BYTES_PER_FLOAT = 4;
+    private static final int BYTES_PER_SHORT = 2;
+    private static final int STRIDE = FLOATS_PER_VERTEX * BYTES_PER_FLOAT;
+
+    private static final String VERTEX_SHADER =
+            "uniform mat4 u_Projection;\n" +
+            "attribute vec2 a_Position;\n" +
+            "attribute vec2 a_TexCoord;\n" +
+            "varying vec2 v_TexCoord;\n" +
+            "void main() {\n" +
+            "    v_TexCoord = a_TexCoord;\n" +
+            "    gl_Position = u_Projection * vec4(a_Position, 0.0, 1.0);\n" +
+            "}\n";
+    private static final String FRAGMENT_SHADER =
+            "precision mediump float;\n" +
+            "uniform sampler2D u_Texture;\n" +
+            "uniform vec4 u_Tint;\n" +
+            "uniform float u_AlphaOnly;\n" +
+            "varying vec2 v_TexCoord;\n" +
+            "void main() {\n" +
+            "    vec4 texel = texture2D(u_Texture, v_TexCoord);\n" +
+            "    gl_FragColor = mix(texel * u_Tint.a, u_Tint * texel.a, u_AlphaOnly);\n" +
+            "}\n";
+
+    private final int maxQuads;
+    private final float[] vertices;
+    private final FloatBuffer vertexBuffer;
+    private final ShortBuffer indexBuffer;
+    private final float[] projection = new float[16];
+    private int program;
+    private int positionHandle;
+    private int texCoordHandle;
+    private int projectionHandle;
+    private int textureHandle;
+    private int tintHandle;
+    private int alphaOnlyHandle;
+    private float texelWidth;
+    private float texelHeight;
+    private int quadCount;
+
+    /**
+     * Constructor. Allocates the vertex and index buffers; no GL calls are made.
+     *
+     * @param maxQuads the number of quads drawn per call. Larger batches are split
+     */
+    public GlSpriteBatch (int maxQuads) {
+        if (maxQuads <= 0 || maxQuads > MAX_QUADS) {
+            throw new IllegalArgumentException("maxQuads must be between 1 and " + MAX_QUADS);
+        }
+        this.maxQuads = maxQuads;
+        this.vertices = new float[maxQuads * VERTICES_PER_QUAD * FLOATS_PER_VERTEX];
+        this.vertexBuffer = ByteBuffer.allocateDirect(vertices.length * BYTES_PER_FLOAT)
+                .order(ByteOrder.nativeOrder()).asFloatBuffer();
+        this.indexBuffer = ByteBuffer.allocateDirect(maxQuads * INDICES_PER_QUAD * BYTES_PER_SHORT)
+                .order(ByteOrder.nativeOrder()).asShortBuffer();
+        // two triangles per quad: top left, bottom left, bottom right and top left, bottom right, top right
+        for (int i = 0; i < maxQuads; i++) {
+            short first = (short) (i * VERTICES_PER_QUAD);
+            indexBuffer.put(first).put((short) (first + 1)).put((short) (first + 2))
+                    .put(first).put((short) (first + 2)).put((short) (first + 3));
+        }
+        indexBuffer.position(0);
+    }
+
+    /**
+     * Compiles the shaders. Must be called once the GL context is current, and again if the
+     * context is recreated.
+     *
+     * @throws IllegalStateException if the shaders fail to compile or link
+     */
+    public void create () {
+        int vertexShader = compileShader(GLES20.GL_VERTEX_SHADER, VERTEX_SHADER);
+        int fragmentShader = compileShader(GLES20.GL_FRAGMENT_SHADER, FRAGMENT_SHADER);
+        program = GLES20.glCreateProgram();
+        GLES20.glAttachShader(program, vertexShader);
+        GLES20.glAttachShader(program, fragmentShader);
+        GLES20.glLinkProgram(program);
+        GLES20.glDeleteShader(vertexShader);
+        GLES20.glDeleteShader(fragmentShader);
+        int[] status = new int[1];
+        GLES20.glGetProgramiv(program, GLES20.GL_LINK_STATUS, status, 0);
+        if (status[0] != GLES20.GL_TRUE) {
+            String log = GLES20.glGetProgramInfoLog(program);
+            GLES20.glDeleteProgram(program);
+            program = 0;
+            throw new IllegalStateException("Unable to link sprite batch program: " + log);
+        }
+        positionHandle = GLES20.glGetAttribLocation(program, "a_Position");
+        texCoordHandle = GLES20.glGetAttribLocation(program, "a_TexCoord");
+        projectionHandle = GLES20.glGetUniformLocation(program, "u_Projection");
+        textureHandle = GLES20.glGetUniformLocation(program, "u_Texture");
+        tintHandle = GLES20.glGetUniformLocation(program, "u_Tint");
+        alphaOnlyHandle = GLES20.glGetUniformLocation(program, "u_AlphaOnly");
+    }
+
+    /**
+     * Sets the size of the viewport destination rectangles are given in
+     *
+     * @param width  the width in pixels
+     * @param height the height in pixels
+     */
+    public void setProjection (float width, float height) {
+        Matrix.orthoM(projection, 0, 0, width, height, 0, -1, 1);
+    }
+
+    /**
+     * Starts a batch of quads drawn from one texture
+     *
+     * @param texture       the texture name
+     * @param textureWidth  the width of the texture in texels
+     * @param textureHeight the height of the texture in texels
+     * @param isAlphaOnly   true if only the alpha of the texture is used, filled with the colour
+     * @param color         the colour alpha only textures are filled with. The alpha of the
+     *                      colour fades any texture
+     */
+    public void begin (int texture, int textureWidth, int textureHeight, boolean isAlphaOnly, int color) {
+        texelWidth = 1f / textureWidth;
+        texelHeight = 1f / textureHeight;
+        quadCount = 0;
+        float alpha = Color.alpha(color) / 255f;
+        GLES20.glUseProgram(program);
+        GLES20.glActiveTexture(GLES20.GL_TEXTURE0);
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, texture);
+        GLES20.glUniform1i(textureHandle, 0);
+        GLES20.glUniformMatrix4fv(projectionHandle, 1, false, projection, 0);
+        GLES20.glUniform4f(tintHandle, Color.red(color) / 255f * alpha, Color.green(color) / 255f * alpha,
+                Color.blue(color) / 255f * alpha, alpha);
+        GLES20.glUniform1f(alphaOnlyHandle, isAlphaOnly ? 1f : 0f);
+    }
+
+    /**
+     * Adds a quad to the batch. The batch is drawn early if it is full.
+     *
+     * @param sourceLeft   the left of the source rectangle, in texels
+     * @param sourceTop    the top of the source rectangle, in texels
+     * @param sourceRight  the right of the source rectangle, in texels
+     * @param sourceBottom the bottom of the source rectangle, in texels
+     * @param left         the left of the destination rectangle, in pixels
+     * @param top          the top of the destination rectangle, in pixels
+     * @param right        the right of the destination rectangle, in pixels
+     * @param bottom       the bottom of the destination rectangle, in pixels
+     */
+    public void add (float sourceLeft, float sourceTop, float sourceRight, float sourceBottom,
+                     float left, float top, float right, float bottom) {
+        if (quadCount == maxQuads) {
+            flush();
+        }
+        float u1 = sourceLeft * texelWidth;
+        float v1 = sourceTop * texelHeight;
+        float u2 = sourceRight * texelWidth;
+        float v2 = sourceBottom * texelHeight;
+        int i = quadCount * VERTICES_PER_QUAD * FLOATS_PER_VERTEX;
+        vertices[i++] = left;
+        vertices[i++] = top;
+        vertices[i++] = u1;
+        vertices[i++] = v1;
+        vertices[i++] = left;
+        vertices[i++] = bottom;
+        vertices[i++] = u1;
+        vertices[i++] = v2;
+        vertices[i++] = right;
+        vertices[i++] = bottom;
+        vertices[i++] = u2;
+        vertices[i++] = v2;
+        vertices[i++] = right;
+        vertices[i++] = top;
+        vertices[i++] = u2;
+        vertices[i] = v1;
+        quadCount++;
+    }
+
+    /**
+     * Draws the quads added since {@link #begin(int, int, int, boolean, int)}
+     */
+    public void end () {
+        flush();
+    }
+
+    /**
+     * Deletes the shaders. The batch can be used again after {@link #create()}.
+     */
+    public void release () {
+        if (program != 0) {
+            GLES20.glDeleteProgram(program);
+            program = 0;
+        }
+    }
+
+    /**
+     * Uploads a Bitmap as a new texture, filtered linearly and clamped at the edges
+     *
+     * @param bitmap the image. ALPHA_8 Bitmaps become alpha only textures
+     * @return the texture name
+     */
+    public static int createTexture (Bitmap bitmap) {
+        int[] textures = new int[1];
+        GLES20.glGenTextures(1, textures, 0);
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, textures[0]);
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_MIN_FILTER, GLES20.GL_LINEAR);
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_MAG_FILTER, GLES20.GL_LINEAR);
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_WRAP_S, GLES20.GL_CLAMP_TO_EDGE);
+        GLES20.glTexParameteri(GLES20.GL_TEXTURE_2D, GLES20.GL_TEXTURE_WRAP_T, GLES20.GL_CLAMP_TO_EDGE);
+        GLUtils.texImage2D(GLES20.GL_TEXTURE_2D, 0, bitmap, 0);
+        return textures[0];
+    }
+
+    /**
+     * Replaces the contents of a texture with a Bitmap
+     *
+     * @param texture the texture name
+     * @param bitmap  the image
+     */
+    public static void updateTexture (int texture, Bitmap bitmap) {
+        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, texture);
+        GLUtils.texImage2D(GLES20.GL_TEXTURE_2D, 0, bitmap, 0);
+    }
+
+    /**
+     * Deletes a texture
+     *
+     * @param texture the texture name
+     */
+    public static void deleteTexture (int texture) {
+        int[] textures = {texture};
+        GLES20.glDeleteTextures(1, textures, 0);
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to draw and empty the batch
+     */
+    private void flush () {
+        if (quadCount == 0) {
+            return;
+        }
+        vertexBuffer.position(0);
+        vertexBuffer.put(vertices, 0, quadCount * VERTICES_PER_QUAD * FLOATS_PER_VERTEX);
+        vertexBuffer.position(0);
+        GLES20.glVertexAttribPointer(positionHandle, 2, GLES20.GL_FLOAT, false, STRIDE, vertexBuffer);
+        GLES20.glEnableVertexAttribArray(positionHandle);
+        vertexBuffer.position(2);
+        GLES20.glVertexAttribPointer(texCoordHandle, 2, GLES20.GL_FLOAT, false, STRIDE, vertexBuffer);
+        GLES20.glEnableVertexAttribArray(texCoordHandle);
+        indexBuffer.position(0);
+        GLES20.glDrawElements(GLES20.GL_TRIANGLES, quadCount * INDICES_PER_QUAD, GLES20.GL_UNSIGNED_SHORT, indexBuffer);
+        quadCount = 0;
+    }
+
+    /**
+     * Helper method to compile a shader
+     *
+     * @throws IllegalStateException if the shader does not compile
+     */
+    private static int compileShader (int type, String source) {
+        int shader = GLES20.glCreateShader(type);
+        GLES20.glShaderSource(shader, source);
+        GLES20.glCompileShader(shader);
+        int[] status = new int[1];
+        GLES20.glGetShaderiv(shader, GLES20.GL_COMPILE_STATUS, status, 0);
+        if (status[0] != GLES20.GL_TRUE) {
+            String log = GLES20.glGetShaderInfoLog(shader);
+            GLES20.glDeleteShader(shader);
+            throw new IllegalStateException("Unable to compile shader: " + log);
+        }
+        return shader;
+    }
+}
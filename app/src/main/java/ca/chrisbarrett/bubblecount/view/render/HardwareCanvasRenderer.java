@@ -0,0 +1,120 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.annotation.TargetApi;
+import android.graphics.Canvas;
+import android.graphics.PixelFormat;
+import android.media.Image;
+import android.media.ImageReader;
+import android.os.Build;
+import android.view.Surface;
+
+import ca.chrisbarrett.bubblecount.util.Logger;
+
+/**
+ * Renderer drawing through {@link Surface#lockHardwareCanvas()}, available from API 23. The same
+ * Canvas calls as {@link SoftwareCanvasRenderer} are recorded and played back on the GPU, which
+ * composites the bubble Bitmaps as textures.
+ * <p/>
+ * A hardware Canvas always redraws the whole surface, so dirty regions are not used.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.SoftwareCanvasRenderer
+ * @since Oct 17, 2026
+ */
+@TargetApi(Build.VERSION_CODES.M)
+public class HardwareCanvasRenderer extends CanvasRenderer {
+
+    public static final String NAME = "hardware";
+    private static final String TAG = "HardwareCanvasRenderer";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName () {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSupported () {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.M;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Frames are drawn into the Surface of an {@link ImageReader}, which is drained after every
+     * frame so the GPU never waits for a free buffer.
+     */
+    @Override
+    public long benchmark (Scene scene, int frames) {
+        ImageReader reader = ImageReader.newInstance((int) scene.getWidth(),
+                (int) scene.getGameAreaHeight() + scene.getQuestionBar().getHeight(), PixelFormat.RGBA_8888, 2);
+        Surface surface = reader.getSurface();
+        try {
+            // the first frame fills the bubble cache and uploads the textures
+            drawFrame(surface, reader, scene, 0);
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                drawFrame(surface, reader, scene, (float) i / frames);
+            }
+            return (System.nanoTime() - start) / frames;
+        } catch (RuntimeException e) {
+            Logger.e(TAG, "Benchmark failed: %s", e.getMessage());
+            return BENCHMARK_FAILED;
+        } finally {
+            surface.release();
+            reader.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean render (float interpolation) {
+        Surface surface = holder.getSurface();
+        if (!surface.isValid()) {
+            return true;
+        }
+        Canvas canvas;
+        try {
+            canvas = surface.lockHardwareCanvas();
+        } catch (RuntimeException e) {
+            Logger.e(TAG, "Unable to lock a hardware canvas: %s", e.getMessage());
+            return false;
+        }
+        drawScene(canvas, scene, interpolation);
+        surface.unlockCanvasAndPost(canvas);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Every frame is a full redraw, so there is nothing to do.
+     */
+    @Override
+    public void invalidate () {
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to draw one benchmark frame and release the buffer it produced
+     */
+    private void drawFrame (Surface surface, ImageReader reader, Scene scene, float interpolation) {
+        Canvas canvas = surface.lockHardwareCanvas();
+        drawScene(canvas, scene, interpolation);
+        surface.unlockCanvasAndPost(canvas);
+        Image image = reader.acquireLatestImage();
+        if (image != null) {
+            image.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.view.SurfaceHolder;
+
+/**
+ * Draws the {@link Scene} of a game onto the surface of a {@link android.view.SurfaceView}. Each
+ * implementation uses a different drawing API. Every method is called on the game thread.
+ * <p/>
+ * The life cycle of a Renderer is:
+ * <ol>
+ * <li>{@link #isSupported()} and, optionally, {@link #benchmark(Scene, int)} to decide whether to
+ * use it.</li>
+ * <li>{@link #start(SurfaceHolder, Scene)} once.</li>
+ * <li>{@link #render(float)} once per frame, with {@link #invalidate()} and
+ * {@link #onSurfaceChanged()} as needed.</li>
+ * <li>{@link #stop()} once, after which it must not be used again.</li>
+ * </ol>
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.RendererSelector
+ * @since Oct 17, 2026
+ */
+public interface Renderer {
+
+    /**
+     * Returned by {@link #benchmark(Scene, int)} when the Renderer could not draw
+     */
+    long BENCHMARK_FAILED = -1;
+
+    /**
+     * Gets the name the Renderer is recorded under
+     *
+     * @return a short, stable name
+     */
+    String getName ();
+
+    /**
+     * Checks whether the Renderer can run on this device's API level
+     *
+     * @return true if the Renderer may be used
+     */
+    boolean isSupported ();
+
+    /**
+     * Draws a number of full frames of the Scene offscreen and measures how long they take. The
+     * surface is not touched, so any number of Renderers can be measured before one is started.
+     *
+     * @param scene  the Scene to draw
+     * @param frames the number of frames to time
+     * @return the average nanoseconds per frame, or {@link #BENCHMARK_FAILED}
+     */
+    long benchmark (Scene scene, int frames);
+
+    /**
+     * Prepares the Renderer to draw the Scene onto the holder's surface
+     *
+     * @param holder the holder of the surface
+     * @param scene  the Scene to draw
+     */
+    void start (SurfaceHolder holder, Scene scene);
+
+    /**
+     * Draws a frame, if the surface is available
+     *
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
+     * @return false if the Renderer has failed and can no longer draw, true otherwise
+     */
+    boolean render (float interpolation);
+
+    /**
+     * Requests that the next frame redraws the whole surface, such as when a round starts
+     */
+    void invalidate ();
+
+    /**
+     * Called when the surface has been recreated, resized or is about to be destroyed. Anything
+     * tied to the previous surface is released before this returns, and the next frame redraws the
+     * whole surface.
+     */
+    void onSurfaceChanged ();
+
+    /**
+     * Releases everything held by the Renderer
+     */
+    void stop ();
+}
@@ -0,0 +1,106 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+
+import ca.chrisbarrett.bubblecount.util.Logger;
+
+/**
+ * Chooses the {@link Renderer} for a game. Candidates the device's API level does not support are
+ * skipped, the rest are benchmarked offscreen with the game's own {@link Scene}, and the fastest
+ * is chosen.
+ * <p/>
+ * The choice is recorded in SharedPreferences along with the build fingerprint of the device, and
+ * reused without benchmarking until the system is updated. A Renderer that later fails on the
+ * surface can be recorded in its place with {@link #record(Renderer, long)}.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.Renderer
+ * @since Oct 17, 2026
+ */
+public class RendererSelector {
+
+    public static final int BENCHMARK_FRAMES = 20;
+    private static final String PREFERENCES_NAME = "renderer";
+    private static final String KEY_NAME = "name";
+    private static final String KEY_FINGERPRINT = "fingerprint";
+    private static final String KEY_FRAME_NANOS = "frameNanos";
+    private static final String TAG = "RendererSelector";
+
+    private final SharedPreferences preferences;
+
+    /**
+     * Constructor
+     *
+     * @param context the Context whose SharedPreferences hold the recorded choice
+     */
+    public RendererSelector (Context context) {
+        preferences = context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Chooses a Renderer. The chosen Renderer has not been started.
+     *
+     * @param scene      the Scene to benchmark with
+     * @param candidates the Renderers to choose between, in order of preference when equally fast.
+     *                   The last should be supported everywhere, as it is used if nothing else is
+     * @return the chosen Renderer
+     */
+    public Renderer select (Scene scene, Renderer... candidates) {
+        String recordedName = getRecordedName();
+        if (recordedName != null && Build.FINGERPRINT.equals(preferences.getString(KEY_FINGERPRINT, null))) {
+            for (Renderer candidate : candidates) {
+                if (candidate.getName().equals(recordedName) && candidate.isSupported()) {
+                    Logger.d(TAG, "Using recorded renderer: %s", recordedName);
+                    return candidate;
+                }
+            }
+        }
+
+        Renderer fastest = null;
+        long fastestNanos = Renderer.BENCHMARK_FAILED;
+        for (Renderer candidate : candidates) {
+            if (!candidate.isSupported()) {
+                Logger.d(TAG, "%s is not supported on API %s", candidate.getName(), Build.VERSION.SDK_INT);
+                continue;
+            }
+            long nanos = candidate.benchmark(scene, BENCHMARK_FRAMES);
+            Logger.d(TAG, "%s benchmark: %s ns per frame", candidate.getName(), nanos);
+            if (nanos != Renderer.BENCHMARK_FAILED && (fastest == null || nanos < fastestNanos)) {
+                fastest = candidate;
+                fastestNanos = nanos;
+            }
+        }
+        if (fastest == null) {
+            fastest = candidates[candidates.length - 1];
+        }
+        record(fastest, fastestNanos);
+        return fastest;
+    }
+
+    /**
+     * Records the Renderer in use, so it is chosen again next time
+     *
+     * @param renderer   the Renderer
+     * @param frameNanos the benchmark result of the Renderer, or {@link Renderer#BENCHMARK_FAILED}
+     *                   if it was not measured
+     */
+    public void record (Renderer renderer, long frameNanos) {
+        Logger.i(TAG, "Renderer chosen: %s", renderer.getName());
+        preferences.edit()
+                .putString(KEY_NAME, renderer.getName())
+                .putString(KEY_FINGERPRINT, Build.FINGERPRINT)
+                .putLong(KEY_FRAME_NANOS, frameNanos)
+                .apply();
+    }
+
+    /**
+     * Gets the name of the Renderer last recorded
+     *
+     * @return the name, or null if no choice has been recorded
+     */
+    public String getRecordedName () {
+        return preferences.getString(KEY_NAME, null);
+    }
+}
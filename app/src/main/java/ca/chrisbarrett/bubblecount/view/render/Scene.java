@@ -0,0 +1,200 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.graphics.Bitmap;
+import android.graphics.Paint;
+
+import ca.chrisbarrett.bubblecount.util.BubbleBitmapCache;
+import ca.chrisbarrett.bubblecount.util.TextBatch;
+import ca.chrisbarrett.bubblecount.view.game.model.Round;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteImage;
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteStore;
+
+/**
+ * Everything a {@link Renderer} needs to draw a frame of the game. The Scene is built once the
+ * game thread has set up the first {@link Round} and the Sprite images, and is shared by every
+ * Renderer tried for the game. The Sprites and question bar come from the Round being played,
+ * which changes when a round is won. Renderers only read from the Scene; the game thread owns the
+ * state behind it.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.render.Renderer
+ * @since Oct 17, 2026
+ */
+public class Scene {
+
+    public static final int OVERLAY_LINES = 4;
+    public static final float OVERLAY_SCALE = 0.25f;
+    public static final int MAX_OVERLAY_GLYPHS = 64 * OVERLAY_LINES;
+
+    private final SpriteImage spriteImage;
+    private final BubbleBitmapCache bubbleCache;
+    private final TextBatch textBatch;
+    private final Paint textPaint;
+    private final Paint drawPaint;
+    private final int backgroundColor;
+    private final float width;
+    private final float gameAreaHeight;
+    private Round round;
+    private int questionBarVersion;
+    private volatile boolean isDirtyRegionRendering = true;
+    private final String[] overlay = new String[OVERLAY_LINES];
+    private volatile boolean isOverlayVisible;
+
+    /**
+     * Constructor
+     *
+     * @param round           the Round being played
+     * @param spriteImage     the sprite sheet the bubbles are cut from
+     * @param bubbleCache     the pre-rendered bubbles, for Renderers drawing on a Canvas
+     * @param textBatch       the batch whose glyph atlas labels are drawn from
+     * @param textPaint       the Paint whose colour tints the labels
+     * @param drawPaint       the Paint used for Bitmaps
+     * @param backgroundColor the colour of the game area
+     * @param width           the width of the game area
+     * @param gameAreaHeight  the height of the game area, which is also the top of the question bar
+     */
+    public Scene (Round round, SpriteImage spriteImage, BubbleBitmapCache bubbleCache,
+                  TextBatch textBatch, Paint textPaint, Paint drawPaint, int backgroundColor,
+                  float width, float gameAreaHeight) {
+        this.round = round;
+        this.spriteImage = spriteImage;
+        this.bubbleCache = bubbleCache;
+        this.textBatch = textBatch;
+        this.textPaint = textPaint;
+        this.drawPaint = drawPaint;
+        this.backgroundColor = backgroundColor;
+        this.width = width;
+        this.gameAreaHeight = gameAreaHeight;
+    }
+
+    /**
+     * Gets the Sprites of the Round being played
+     *
+     * @return the Sprites
+     */
+    public SpriteStore getSprites () {
+        return round.getSprites();
+    }
+
+    public SpriteImage getSpriteImage () {
+        return spriteImage;
+    }
+
+    public BubbleBitmapCache getBubbleCache () {
+        return bubbleCache;
+    }
+
+    public TextBatch getTextBatch () {
+        return textBatch;
+    }
+
+    public Paint getTextPaint () {
+        return textPaint;
+    }
+
+    public Paint getDrawPaint () {
+        return drawPaint;
+    }
+
+    /**
+     * Gets the pre-rendered text area of the Round being played, drawn below the game area
+     *
+     * @return the question bar
+     */
+    public Bitmap getQuestionBar () {
+        return round.getQuestionBar();
+    }
+
+    public int getBackgroundColor () {
+        return backgroundColor;
+    }
+
+    public float getWidth () {
+        return width;
+    }
+
+    public float getGameAreaHeight () {
+        return gameAreaHeight;
+    }
+
+    /**
+     * Changes the Round being played. The question bar changes with it, so Renderers holding a copy
+     * of it, such as a texture, are told to refresh it through {@link #getQuestionBarVersion()}.
+     *
+     * @param round the new Round
+     */
+    public void setRound (Round round) {
+        this.round = round;
+        questionBarVersion++;
+    }
+
+    /**
+     * Gets a number that changes every time the question bar changes
+     *
+     * @return the version of the question bar
+     */
+    public int getQuestionBarVersion () {
+        return questionBarVersion;
+    }
+
+    /**
+     * Sets whether Renderers able to redraw part of the surface should do so
+     *
+     * @param isDirtyRegionRendering true to redraw only the dirty region, false to redraw the
+     *                               whole surface every frame
+     */
+    public void setDirtyRegionRendering (boolean isDirtyRegionRendering) {
+        this.isDirtyRegionRendering = isDirtyRegionRendering;
+    }
+
+    public boolean isDirtyRegionRendering () {
+        return isDirtyRegionRendering;
+    }
+
+    /**
+     * Sets whether the debug overlay is drawn across the top of the game area
+     *
+     * @param isOverlayVisible true to draw the overlay
+     */
+    public void setOverlayVisible (boolean isOverlayVisible) {
+        this.isOverlayVisible = isOverlayVisible;
+    }
+
+    public boolean isOverlayVisible () {
+        return isOverlayVisible;
+    }
+
+    /**
+     * Sets a line of the debug overlay. Only characters in the glyph atlas are drawn.
+     *
+     * @param line the line, from 0 to {@link #OVERLAY_LINES} - 1
+     * @param text the text of the line, or null to leave it blank
+     */
+    public void setOverlayLine (int line, String text) {
+        overlay[line] = text;
+    }
+
+    public String getOverlayLine (int line) {
+        return overlay[line];
+    }
+
+    /**
+     * Gets the baseline of a line of the debug overlay. Overlay text is drawn from the glyph atlas
+     * scaled by {@link #OVERLAY_SCALE}, and the baseline is in those scaled units.
+     *
+     * @param line the line, from 0 to {@link #OVERLAY_LINES} - 1
+     * @return the Y coordinate of the baseline, before scaling
+     */
+    public float getOverlayBaseline (int line) {
+        return -textBatch.getAtlas().getCellTop() + line * textBatch.getAtlas().getCellHeight();
+    }
+
+    /**
+     * Gets the height of the strip at the top of the game area the debug overlay is drawn in
+     *
+     * @return the height in pixels
+     */
+    public float getOverlayHeight () {
+        return OVERLAY_LINES * textBatch.getAtlas().getCellHeight() * OVERLAY_SCALE;
+    }
+}
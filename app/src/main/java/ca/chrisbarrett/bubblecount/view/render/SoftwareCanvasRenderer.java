@@ -0,0 +1,160 @@
+package ca.chrisbarrett.bubblecount.view.render;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.view.SurfaceHolder;
+
+import ca.chrisbarrett.bubblecount.view.game.model.SpriteStore;
+
+/**
+ * Renderer drawing on the CPU through {@link SurfaceHolder#lockCanvas()}. Supported on every API
+ * level, so it is always the last fallback.
+ * <p/>
+ * With dirty region rendering on, only the union of every bubble's previous and new bounds is
+ * locked and redrawn, along with the debug overlay strip when it is shown; the surface keeps the
+ * rest of the previous frame. The whole surface,
+ * including the text area, is only redrawn after {@link #invalidate()}.
+ *
+ * @author Chris Barrett
+ * @see android.view.SurfaceHolder#lockCanvas(Rect)
+ * @since Oct 17, 2026
+ */
+public class SoftwareCanvasRenderer extends CanvasRenderer {
+
+    public static final String NAME = "software";
+
+    private final Rect dirtyRegion = new Rect();
+    private final Rect bounds = new Rect();
+    private Rect[] drawnBounds;
+    private boolean[] isDrawn;
+    private boolean isFullRedraw = true;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName () {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSupported () {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Frames are drawn into a Bitmap the size of the Scene.
+     */
+    @Override
+    public long benchmark (Scene scene, int frames) {
+        Bitmap target = Bitmap.createBitmap((int) scene.getWidth(),
+                (int) scene.getGameAreaHeight() + scene.getQuestionBar().getHeight(), Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(target);
+        // the first frame fills the bubble cache
+        drawScene(canvas, scene, 0);
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            drawScene(canvas, scene, (float) i / frames);
+        }
+        long elapsed = System.nanoTime() - start;
+        target.recycle();
+        return elapsed / frames;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start (SurfaceHolder holder, Scene scene) {
+        super.start(holder, scene);
+        int capacity = scene.getSprites().capacity();
+        drawnBounds = new Rect[capacity];
+        for (int i = 0; i < capacity; i++) {
+            drawnBounds[i] = new Rect();
+        }
+        isDrawn = new boolean[capacity];
+        isFullRedraw = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean render (float interpolation) {
+        if (!holder.getSurface().isValid()) {
+            return true;
+        }
+        SpriteStore sprites = scene.getSprites();
+        int size = sprites.size();
+        Canvas canvas;
+        if (scene.isDirtyRegionRendering() && !isFullRedraw) {
+            dirtyRegion.setEmpty();
+            for (int i = 0; i < size; i++) {
+                if (isDrawn[i]) {
+                    dirtyRegion.union(drawnBounds[i]);
+                }
+                if (sprites.getVisibility(i)) {
+                    getBounds(sprites, i, interpolation, bounds);
+                    dirtyRegion.union(bounds);
+                }
+            }
+            if (scene.isOverlayVisible()) {
+                dirtyRegion.union(0, 0, (int) scene.getWidth(), (int) Math.ceil(scene.getOverlayHeight()));
+            }
+            if (dirtyRegion.isEmpty()) {
+                return true;
+            }
+            canvas = holder.lockCanvas(dirtyRegion);
+        } else {
+            canvas = holder.lockCanvas();
+        }
+        if (canvas == null) {
+            return true;
+        }
+        isFullRedraw = false;
+        drawScene(canvas, scene, interpolation);
+        for (int i = 0; i < size; i++) {
+            isDrawn[i] = sprites.getVisibility(i);
+            if (isDrawn[i]) {
+                getBounds(sprites, i, interpolation, drawnBounds[i]);
+            }
+        }
+        holder.unlockCanvasAndPost(canvas);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate () {
+        isFullRedraw = true;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to find the pixels a bubble covers when drawn, rounded out by one pixel to
+     * allow for antialiasing
+     *
+     * @param sprites       the Sprites being drawn
+     * @param index         the Sprite index
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
+     * @param bounds        receives the bounds
+     */
+    protected void getBounds (SpriteStore sprites, int index, float interpolation, Rect bounds) {
+        float x = sprites.getX(index, interpolation);
+        float y = sprites.getY(index, interpolation);
+        float radius = sprites.getRadius(index);
+        bounds.set((int) (x - radius) - 1, (int) (y - radius) - 1,
+                (int) (x + radius) + 2, (int) (y + radius) + 2);
+    }
+}
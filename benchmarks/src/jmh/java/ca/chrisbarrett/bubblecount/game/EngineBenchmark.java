@@ -0,0 +1,73 @@
+package ca.chrisbarrett.bubblecount.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+
+/**
+ * Benchmarks generating a question with each {@link GameEngine}, sampled freely and dealt without
+ * repeats, and building the alphabet engine's {@link QuestionPool}, which is done once per class.
+ * Each engine is given its own seeded {@link XoroshiroRandom}, so every run generates the same
+ * questions.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.game.AbstractEngine
+ * @since Oct 17, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EngineBenchmark {
+
+    private static final long SEED = 42;
+
+    private CountGameEngine countEngine;
+    private AlphabetGameEngine alphabetEngine;
+    private AlphabetGameEngine dealingEngine;
+
+    @Setup
+    public void setUp () {
+        countEngine = new CountGameEngine();
+        countEngine.setRandomSource(new XoroshiroRandom(SEED));
+        countEngine.randomize();
+        alphabetEngine = new AlphabetGameEngine();
+        alphabetEngine.setRandomSource(new XoroshiroRandom(SEED));
+        alphabetEngine.randomize();
+        dealingEngine = new AlphabetGameEngine();
+        dealingEngine.setRandomSource(new XoroshiroRandom(SEED));
+        dealingEngine.setNoRepeat(true);
+    }
+
+    @Benchmark
+    public String countRandomize () {
+        countEngine.randomize();
+        return countEngine.getQuestion();
+    }
+
+    @Benchmark
+    public String alphabetRandomize () {
+        alphabetEngine.randomize();
+        return alphabetEngine.getQuestion();
+    }
+
+    @Benchmark
+    public String alphabetDeal () {
+        dealingEngine.randomize();
+        return dealingEngine.getQuestion();
+    }
+
+    @Benchmark
+    public QuestionPool buildAlphabetPool () {
+        return new QuestionPool(LabelTable.ofCharacters((char) AlphabetGameEngine.MIN_VALUE,
+                (char) AlphabetGameEngine.MAX_VALUE), QuestionPool.LEADING_LABELS,
+                AlphabetGameEngine.MAX_VALUE - AlphabetGameEngine.MIN_VALUE, QuestionPool.DEFAULT_VARIANTS);
+    }
+}
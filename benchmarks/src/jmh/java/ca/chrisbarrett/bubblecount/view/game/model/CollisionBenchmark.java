@@ -0,0 +1,90 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import ca.chrisbarrett.bubblecount.core.RandomSource;
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+import ca.chrisbarrett.bubblecount.game.LabelTable;
+
+/**
+ * Benchmarks finding colliding bubbles, by testing every pair with
+ * {@link SpriteStore#isCollision(int, int)} and through the {@link SpatialHash}, and the per tick
+ * update of a round: one {@link BubblePhysics} step and one animation tick, as the game runs
+ * {@value #TICKS_PER_SECOND} times a second.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.BubblePhysics
+ * @since Oct 17, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+
+    public static final int TICKS_PER_SECOND = 60;
+    private static final float TICK_SECONDS = 1f / TICKS_PER_SECOND;
+    private static final long SEED = 42;
+
+    @Param({"20", "200", "2000"})
+    public int bubbles;
+
+    private SpriteStore sprites;
+    private SpatialHash spatialHash;
+    private BubblePhysics physics;
+    private int[] collisions;
+
+    @Setup
+    public void setUp () {
+        RandomSource random = new XoroshiroRandom(SEED);
+        float side = PlacementBenchmark.sideFor(bubbles);
+        BubblePlacer placer = new BubblePlacer(PlacementBenchmark.createLayouts(
+                PlacementBenchmark.createSampler(side, random)), side, side, PlacementBenchmark.FRAMES, random);
+        sprites = new SpriteStore(bubbles);
+        spatialHash = new SpatialHash(sprites, side, side, SpriteStore.DEFAULT_RADIUS * 2);
+        int[] incorrect = PlacementBenchmark.createCodes(bubbles - 1);
+        placer.place(sprites, spatialHash, LabelTable.ofNumbers(0, bubbles - 1), 0, incorrect,
+                incorrect.length);
+        physics = new BubblePhysics(side, side, bubbles);
+        collisions = new int[bubbles];
+    }
+
+    @Benchmark
+    public int pairwiseCollisions () {
+        int count = 0;
+        int size = sprites.size();
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (sprites.isCollision(i, j)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int hashedCollisions () {
+        int count = 0;
+        int size = sprites.size();
+        for (int i = 0; i < size; i++) {
+            count += spatialHash.getCollisions(i, collisions);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public SpriteStore update () {
+        physics.step(sprites, spatialHash, TICK_SECONDS);
+        sprites.animate();
+        return sprites;
+    }
+}
@@ -0,0 +1,135 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import ca.chrisbarrett.bubblecount.core.RandomSource;
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+import ca.chrisbarrett.bubblecount.game.CountGameEngine;
+import ca.chrisbarrett.bubblecount.game.LabelTable;
+
+/**
+ * Benchmarks setting up the bubbles of a round: placing them with a {@link BubblePlacer}, as is
+ * done for every round, generating a whole round from its seed with a {@link RoundGenerator}, and
+ * generating a {@link BubbleLayout} with a {@link PoissonDiskSampler}, as is done once per screen
+ * size. The area is square and sized so its layouts hold at least the
+ * number of bubbles benchmarked.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.BubblePlacer
+ * @since Oct 17, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlacementBenchmark {
+
+    public static final int LAYOUTS = 8;
+    public static final int FRAMES = 6;
+    private static final long SEED = 42;
+
+    @Param({"20", "200", "2000"})
+    public int bubbles;
+
+    private PoissonDiskSampler sampler;
+    private BubblePlacer placer;
+    private RoundGenerator generator;
+    private int roundNumber;
+    private SpriteStore sprites;
+    private SpatialHash spatialHash;
+    private LabelTable labels;
+    private int[] incorrect;
+
+    @Setup
+    public void setUp () {
+        RandomSource random = new XoroshiroRandom(SEED);
+        float side = sideFor(bubbles);
+        sampler = createSampler(side, random);
+        BubbleLayout[] layouts = createLayouts(sampler);
+        placer = new BubblePlacer(layouts, side, side, FRAMES, random);
+        generator = new RoundGenerator(new CountGameEngine(), layouts, side, side, FRAMES, SEED);
+        sprites = new SpriteStore(bubbles);
+        spatialHash = new SpatialHash(sprites, side, side, SpriteStore.DEFAULT_RADIUS * 2);
+        labels = LabelTable.ofNumbers(0, bubbles - 1);
+        incorrect = createCodes(bubbles - 1);
+    }
+
+    @Benchmark
+    public int place () {
+        placer.place(sprites, spatialHash, labels, 0, incorrect, incorrect.length);
+        return sprites.size();
+    }
+
+    @Benchmark
+    public int generateRound () {
+        generator.generate(++roundNumber, sprites, spatialHash);
+        return sprites.size();
+    }
+
+    @Benchmark
+    public int sampleLayout () {
+        return sampler.sample(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the side of a square area whose layouts hold at least a number of bubbles
+     *
+     * @param bubbles the number of bubbles
+     * @return the side in pixels
+     */
+    public static float sideFor (int bubbles) {
+        // a Poisson disk layout packs well under one bubble per diameter squared
+        float diameter = SpriteStore.DEFAULT_RADIUS * 2;
+        return diameter * ((float) Math.ceil(Math.sqrt(bubbles * 2)) + 1);
+    }
+
+    /**
+     * Creates a sampler for the centres of bubbles within a square, the same way
+     * LayoutCache does for a screen
+     *
+     * @param side   the side of the square
+     * @param random the source of randomness
+     * @return the sampler
+     */
+    public static PoissonDiskSampler createSampler (float side, RandomSource random) {
+        float radius = SpriteStore.DEFAULT_RADIUS;
+        return new PoissonDiskSampler(side - radius * 2, side - radius * 2, radius * 2,
+                PoissonDiskSampler.DEFAULT_CANDIDATES, random);
+    }
+
+    /**
+     * Creates {@value #LAYOUTS} layouts from a sampler
+     *
+     * @param sampler the sampler
+     * @return the layouts
+     */
+    public static BubbleLayout[] createLayouts (PoissonDiskSampler sampler) {
+        BubbleLayout[] layouts = new BubbleLayout[LAYOUTS];
+        for (int i = 0; i < LAYOUTS; i++) {
+            layouts[i] = new BubbleLayout(sampler, sampler.sample(Integer.MAX_VALUE), SpriteStore.DEFAULT_RADIUS);
+        }
+        return layouts;
+    }
+
+    /**
+     * Creates distinct codes for the incorrect bubbles, leaving code 0 for the answer
+     *
+     * @param count the number of codes
+     * @return the codes, from 1 to count
+     */
+    public static int[] createCodes (int count) {
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = i + 1;
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,85 @@
+package ca.chrisbarrett.bubblecount.core;
+
+/**
+ * Logging facade for the core module, writing to the installed {@link LogSink}. Until a sink is
+ * installed, nothing is logged. Messages are given as a {@link String#format(String, Object...)}
+ * pattern and up to two arguments; the message is only formatted if the sink writes its priority.
+ * <p/>
+ * The fixed arity overloads avoid allocating a varargs array for each call. Primitive arguments
+ * are still boxed at the call site.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.core.LogSink
+ * @since Oct 17, 2026
+ */
+public final class CoreLogger {
+
+    private static final LogSink SILENT = new LogSink() {
+        @Override
+        public boolean isLoggable (int priority) {
+            return false;
+        }
+
+        @Override
+        public void log (int priority, String tag, String message) {
+        }
+    };
+
+    private static volatile LogSink sink = SILENT;
+
+    private CoreLogger () {
+    }
+
+    /**
+     * Installs where messages are written
+     *
+     * @param sink the sink, or null to stop logging
+     */
+    public static void setSink (LogSink sink) {
+        CoreLogger.sink = sink == null ? SILENT : sink;
+    }
+
+    public static void d (String tag, String message) {
+        log(LogSink.DEBUG, tag, message);
+    }
+
+    public static void d (String tag, String format, Object arg) {
+        LogSink current = sink;
+        if (current.isLoggable(LogSink.DEBUG)) {
+            current.log(LogSink.DEBUG, tag, String.format(format, arg));
+        }
+    }
+
+    public static void d (String tag, String format, Object arg1, Object arg2) {
+        LogSink current = sink;
+        if (current.isLoggable(LogSink.DEBUG)) {
+            current.log(LogSink.DEBUG, tag, String.format(format, arg1, arg2));
+        }
+    }
+
+    public static void i (String tag, String message) {
+        log(LogSink.INFO, tag, message);
+    }
+
+    public static void w (String tag, String message) {
+        log(LogSink.WARN, tag, message);
+    }
+
+    public static void e (String tag, String message) {
+        log(LogSink.ERROR, tag, message);
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to write a message that needs no formatting
+     */
+    private static void log (int priority, String tag, String message) {
+        LogSink current = sink;
+        if (current.isLoggable(priority)) {
+            current.log(priority, tag, message);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ca.chrisbarrett.bubblecount.core;
+
+/**
+ * Mutable rectangle of int coordinates, used by the core module where Android code would use
+ * android.graphics.Rect. Like Rect, right and bottom are exclusive, and the fields are public so
+ * a renderer can read them without calls.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.FrameTable
+ * @since Oct 17, 2026
+ */
+public final class IntRect {
+
+    public int left;
+    public int top;
+    public int right;
+    public int bottom;
+
+    public void set (int left, int top, int right, int bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public int width () {
+        return right - left;
+    }
+
+    public int height () {
+        return bottom - top;
+    }
+}
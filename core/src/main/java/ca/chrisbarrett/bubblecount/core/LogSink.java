@@ -0,0 +1,36 @@
+package ca.chrisbarrett.bubblecount.core;
+
+/**
+ * Where the core module sends its log messages. The core module runs on Android and on a plain
+ * JVM, so it never calls a platform logger itself; the platform installs a LogSink with
+ * {@link CoreLogger#setSink(LogSink)} instead.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.core.CoreLogger
+ * @since Oct 17, 2026
+ */
+public interface LogSink {
+
+    int DEBUG = 3;
+    int INFO = 4;
+    int WARN = 5;
+    int ERROR = 6;
+
+    /**
+     * Checks whether messages of a priority are written. Messages that are not are never
+     * formatted.
+     *
+     * @param priority one of {@link #DEBUG}, {@link #INFO}, {@link #WARN} or {@link #ERROR}
+     * @return true if messages of the priority are written
+     */
+    boolean isLoggable (int priority);
+
+    /**
+     * Writes a message
+     *
+     * @param priority one of {@link #DEBUG}, {@link #INFO}, {@link #WARN} or {@link #ERROR}
+     * @param tag      identifies the source of the message
+     * @param message  the formatted message
+     */
+    void log (int priority, String tag, String message);
+}
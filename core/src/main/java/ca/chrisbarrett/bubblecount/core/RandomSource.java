@@ -0,0 +1,37 @@
+package ca.chrisbarrett.bubblecount.core;
+
+/**
+ * Source of the random numbers used to generate rounds. Taking randomness through this interface,
+ * rather than from a shared {@link java.util.Random}, lets the platform, a benchmark or a test
+ * decide where the numbers come from.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.core.XoroshiroRandom
+ * @since Oct 17, 2026
+ */
+public interface RandomSource {
+
+    /**
+     * Gets a uniformly distributed int
+     *
+     * @param bound the exclusive upper bound. Must be positive
+     * @return a value from 0 inclusive to bound exclusive
+     */
+    int nextInt (int bound);
+
+    boolean nextBoolean ();
+
+    /**
+     * Gets a uniformly distributed float
+     *
+     * @return a value from 0 inclusive to 1 exclusive
+     */
+    float nextFloat ();
+
+    /**
+     * Gets a uniformly distributed double
+     *
+     * @return a value from 0 inclusive to 1 exclusive
+     */
+    double nextDouble ();
+}
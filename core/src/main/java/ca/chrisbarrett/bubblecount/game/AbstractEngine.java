@@ -0,0 +1,186 @@
+package ca.chrisbarrett.bubblecount.game;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import ca.chrisbarrett.bubblecount.core.CoreLogger;
+import ca.chrisbarrett.bubblecount.core.RandomSource;
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+
+/**
+ * Abstract game engine. Games are based on the British Columbia school curriculum of 2007.
+ * Fields are intentionally protected in order to allow faster access by derived classes.
+ * <p/>
+ * Elements are handled as int codes into the engine's {@link LabelTable}. Derived classes hand
+ * the constructor a {@link QuestionPool} holding every round they can ask, built once and shared
+ * by every engine of the class, so generating a round only picks from the pool, in constant time,
+ * and does not allocate.
+ * <a href="https://www.bced.gov.bc.ca/irp/pdfs/mathematics/2007mathk7.pdf">https://www.bced.gov.bc.ca/irp/pdfs/mathematics/2007mathk7.pdf</a>
+ *
+ * @author Chris Barrett
+ * @see
+ * @since Jul 1, 2016
+ */
+public abstract class AbstractEngine implements GameEngine {
+
+    protected static final String TAG = "GameEngine";
+
+    protected final QuestionPool pool;
+    protected final LabelTable labels;
+    protected String question;
+    protected int correctCode;
+    protected int[] incorrectCodes = new int[0];
+    protected int incorrectCount;
+    protected RandomSource random = new XoroshiroRandom(XoroshiroRandom.newSeed());
+    private int[] deck;
+    private int dealt;
+
+    /**
+     * Constructor
+     *
+     * @param pool the rounds the engine asks
+     */
+    protected AbstractEngine (QuestionPool pool) {
+        this.pool = pool;
+        this.labels = pool.getLabels();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCorrectElement () {
+        return labels.get(correctCode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getQuestion () {
+        return question;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getIncorrectElements () {
+        Set<String> incorrectElements = new LinkedHashSet<>(incorrectCount);
+        for (int i = 0; i < incorrectCount; i++) {
+            incorrectElements.add(labels.get(incorrectCodes[i]));
+        }
+        return incorrectElements;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LabelTable getLabels () {
+        return labels;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCorrectCode () {
+        return correctCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getIncorrectCodes () {
+        return incorrectCodes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIncorrectCount () {
+        return incorrectCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QuestionPool getQuestionPool () {
+        return pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void randomize () {
+        int nextQuestion = deck == null ? random.nextInt(pool.size()) : deal();
+        select(nextQuestion, random.nextInt(pool.getVariants()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRandomSource (RandomSource random) {
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNoRepeat (boolean isNoRepeat) {
+        if (!isNoRepeat) {
+            deck = null;
+            return;
+        }
+        deck = new int[pool.size()];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = i;
+        }
+        dealt = 0;
+    }
+
+    /**
+     * Makes one round of the {@link QuestionPool} the current question
+     *
+     * @param nextQuestion the index of the question
+     * @param variant      the index of the distractor order
+     */
+    protected void select (int nextQuestion, int variant) {
+        correctCode = pool.getAnswer(nextQuestion);
+        question = pool.getQuestion(nextQuestion);
+        incorrectCodes = pool.getDistractors(nextQuestion, variant);
+        incorrectCount = pool.getDistractorCount();
+        CoreLogger.d(TAG, "Question: %s, Answer: %s", question, labels.get(correctCode));
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to deal the next question from the deck. Each deal swaps a random question
+     * from the rest of the deck into place, so every question is dealt once, in random order,
+     * before the deck starts over.
+     *
+     * @return the index of the question
+     */
+    private int deal () {
+        if (dealt == deck.length) {
+            dealt = 0;
+        }
+        int pick = dealt + random.nextInt(deck.length - dealt);
+        int dealtQuestion = deck[pick];
+        deck[pick] = deck[dealt];
+        deck[dealt++] = dealtQuestion;
+        return dealtQuestion;
+    }
+
+}
\ No newline at end of file
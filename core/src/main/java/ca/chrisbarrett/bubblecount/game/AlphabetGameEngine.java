@@ -1,7 +1,5 @@
 package ca.chrisbarrett.bubblecount.game;
 
-import ca.chrisbarrett.bubblecount.util.Values;
-
 /**
  * Concrete class of the GameEngine to generate a letter finding game. GameFeed will generate a letter.
  * The question generated will display four leading letters.
@@ -19,9 +17,8 @@ public class AlphabetGameEngine extends AbstractEngine {
     public static final int ALPHABET_SIZE = 26;
     public static final int MIN_VALUE = 'A';
     public static final int MAX_VALUE = 'Z';
-    private char maxValue = 'Z';
-    private char minValue = 'A';
-
+    private static final QuestionPool POOL = new QuestionPool(LabelTable.ofCharacters((char) MIN_VALUE, (char) MAX_VALUE),
+            QuestionPool.LEADING_LABELS, MAX_VALUE - MIN_VALUE, QuestionPool.DEFAULT_VARIANTS);
 
     /**
      * Default Constructor. Generates using the {@link AbstractEngine#DEFAULT_AGE}
@@ -31,28 +28,13 @@ public class AlphabetGameEngine extends AbstractEngine {
     }
 
     /**
-     * Constructor. Accepts the age of the child, and adjusts the range of values accordingly.
-     * Once the values have been assigned, the constructor calls {@link #randomize()}
+     * Constructor. Accepts the age of the child.
+     * The alphabet is the same at every age, so every engine shares one {@link QuestionPool},
+     * built when the class is loaded.
      *
-     * @param age
+     * @param age the age of the player
      */
     public AlphabetGameEngine (int age) {
-        maxValue = 'Z';
-        minValue = 'A';
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void randomize () {
-        char charAnswer = (char) (Values.RANDOM.nextInt(maxValue - minValue - 2) + minValue + 3);
-        StringBuilder build = new StringBuilder(9).append('?');
-        for (int i = charAnswer - 1; i > charAnswer - 4; i--) {
-            build.insert(0, (char) i + "  ");
-        }
-        correctElement = "" + charAnswer;
-        question = build.toString();
-        generateIncorrectElements(minValue, maxValue);
+        super(POOL);
     }
 }
\ No newline at end of file
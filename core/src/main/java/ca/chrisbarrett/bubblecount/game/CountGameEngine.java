@@ -0,0 +1,73 @@
+package ca.chrisbarrett.bubblecount.game;
+
+/**
+ * Concrete class of the GameFeed GameEngine to generate a counting game. GameFeed will generate a number
+ * between the range appropriate for the player's age. A question for display between range will also be generated. The question generated will display fouÒr leading numbers.
+ * <p/>
+ * For example, if the age is 5 or less, the range is (1 - 10). An correctElement will be generated in the
+ * range of 5 - 10. If the number is 10, the question will be "7, 8, 9, ?". At age 6 the range is
+ * (1 - 20), and from age 7 it is (1 - 30).
+ * <p/>
+ * The {@link QuestionPool} of each age band is built the first time an engine of that band is
+ * created, and shared by every engine of the band after that.
+ * <p/>
+ * <a href="https://www.bced.gov.bc.ca/irp/curric_grade_packages/grkcurric_req.pdf">https://www.bced.gov.bc.ca/irp/curric_grade_packages/grkcurric_req.pdf</a>
+ *
+ * @author Chris Barrett
+ * @see
+ * @since Jul 1, 2016
+ */
+public class CountGameEngine extends AbstractEngine {
+
+    public static final int MIN_VALUE = 1;
+    private static final int[] BAND_MAX_AGES = {5, 6};
+    private static final int[] BAND_MAX_VALUES = {10, 20, 30};
+    private static final QuestionPool[] POOLS = new QuestionPool[BAND_MAX_VALUES.length];
+
+    /**
+     * Default Constructor. Generates using the {@link AbstractEngine#DEFAULT_AGE}
+     */
+    public CountGameEngine () {
+        this(DEFAULT_AGE);
+    }
+
+    /**
+     * Constructor. Accepts the age of the child, and adjusts the range of values accordingly.
+     *
+     * @param age the age of the player
+     */
+    public CountGameEngine (int age) {
+        super(getPool(ageBand(age)));
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to find the age band of an age
+     *
+     * @return the index of the band
+     */
+    private static int ageBand (int age) {
+        int band = 0;
+        while (band < BAND_MAX_AGES.length && age > BAND_MAX_AGES[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    /**
+     * Helper method to get the pool of an age band, building it the first time
+     *
+     * @return the pool
+     */
+    private static synchronized QuestionPool getPool (int band) {
+        if (POOLS[band] == null) {
+            int maxValue = BAND_MAX_VALUES[band];
+            POOLS[band] = new QuestionPool(LabelTable.ofNumbers(MIN_VALUE, maxValue * 3),
+                    QuestionPool.LEADING_LABELS, maxValue - MIN_VALUE, QuestionPool.DEFAULT_VARIANTS);
+        }
+        return POOLS[band];
+    }
+}
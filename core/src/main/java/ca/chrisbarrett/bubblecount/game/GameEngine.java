@@ -0,0 +1,99 @@
+package ca.chrisbarrett.bubblecount.game;
+
+import java.util.Set;
+
+import ca.chrisbarrett.bubblecount.core.RandomSource;
+
+/**
+ * The GameFeed GameEngine interface. All concrete classes must implement.
+ *
+ * @author Chris Barrett
+ * @since Jul 1, 2016
+ */
+public interface GameEngine {
+
+    int DEFAULT_SIZE = 50;
+    int DEFAULT_AGE = 5;
+    int NO_MINIMUM_AGE = 0;
+
+    /**
+     * Gets the correctElement to the question
+     *
+     * @return the correctElement value
+     */
+    String getCorrectElement ();
+
+    /**
+     * Gets the incorrectElements as a Set for display. The Set is built on every call; the game
+     * itself uses {@link #getIncorrectCodes()}, which does not allocate.
+     *
+     * @return a Set of incorrect elements
+     */
+    Set<String> getIncorrectElements ();
+
+    /**
+     * Gets the labels of every element the engine can generate. The table does not change.
+     *
+     * @return the table the element codes index
+     */
+    LabelTable getLabels ();
+
+    /**
+     * Gets the correctElement to the question as a code
+     *
+     * @return the index of the correctElement in {@link #getLabels()}
+     */
+    int getCorrectCode ();
+
+    /**
+     * Gets the incorrectElements as codes, in random order. The array is reused by every round, and
+     * only the first {@link #getIncorrectCount()} values are valid.
+     *
+     * @return the indices of the incorrect elements in {@link #getLabels()}
+     */
+    int[] getIncorrectCodes ();
+
+    /**
+     * Gets the number of incorrectElements
+     *
+     * @return the number of valid values in {@link #getIncorrectCodes()}
+     */
+    int getIncorrectCount ();
+
+    /**
+     * Gets the question as a String for display
+     *
+     * @return the question
+     */
+    String getQuestion ();
+
+    /**
+     * Gets every round the engine can ask. The pool does not change.
+     *
+     * @return the pool {@link #randomize()} picks from
+     */
+    QuestionPool getQuestionPool ();
+
+    /**
+     * Helper method used to generate a new random question, correctElement, and Set of incorrectElements
+     */
+    void randomize();
+
+    /**
+     * Sets whether {@link #randomize()} may repeat a question before every question of the
+     * {@link QuestionPool} has been asked. Turning it on starts a new deck, so it is done at the
+     * start of each game. While it is on, each round depends on the rounds before it.
+     *
+     * @param isNoRepeat true to ask every question once before asking any again
+     */
+    void setNoRepeat (boolean isNoRepeat);
+
+    /**
+     * Sets where {@link #randomize()} draws its random numbers from. Seeding the source makes the
+     * questions generated repeatable.
+     *
+     * @param random the source of randomness
+     */
+    void setRandomSource (RandomSource random);
+
+}
\ No newline at end of file
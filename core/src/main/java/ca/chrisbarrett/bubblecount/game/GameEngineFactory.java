@@ -0,0 +1,21 @@
+package ca.chrisbarrett.bubblecount.game;
+
+/**
+ * Creates the {@link GameEngine} of one game. Factories are registered with a
+ * {@link GameEngineRegistry} as anonymous classes calling the engine's constructor directly, so
+ * no engine is looked up by name or created by reflection.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.game.GameEngineRegistry
+ * @since Oct 17, 2026
+ */
+public interface GameEngineFactory {
+
+    /**
+     * Creates a new engine for a player
+     *
+     * @param age the age of the player
+     * @return the engine, ready for {@link GameEngine#randomize()}
+     */
+    GameEngine create (int age);
+}
@@ -0,0 +1,98 @@
+package ca.chrisbarrett.bubblecount.game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the {@link GameEngineFactory} of every game, keyed by the game's id. Starting a
+ * game only looks up its factory and calls it, with no class loading, reflection or database
+ * access. {@link #warm(int)} creates one engine of every game ahead of time, so the classes of
+ * the engines are loaded and their {@link QuestionPool}s built before the first game starts.
+ * <p/>
+ * A registry is filled before it is shared, and is only read afterwards, so it needs no locking
+ * as long as it is published safely, for example through a static final field.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.game.GameEngineFactory
+ * @since Oct 17, 2026
+ */
+public final class GameEngineRegistry {
+
+    private final Map<Long, GameEngineFactory> factories = new HashMap<>();
+    private final List<Long> gameIds = new ArrayList<>();
+
+    /**
+     * Registers the factory of a game
+     *
+     * @param gameId  the id of the game
+     * @param factory creates the engine of the game
+     * @return this registry, so registrations can be chained
+     */
+    public GameEngineRegistry register (long gameId, GameEngineFactory factory) {
+        if (factories.containsKey(gameId)) {
+            throw new IllegalArgumentException("Game already registered: " + gameId);
+        }
+        factories.put(gameId, factory);
+        gameIds.add(gameId);
+        return this;
+    }
+
+    /**
+     * Checks whether a game has been registered
+     *
+     * @param gameId the id of the game
+     * @return true if {@link #create(long, int)} can create its engine
+     */
+    public boolean contains (long gameId) {
+        return factories.containsKey(gameId);
+    }
+
+    /**
+     * Creates the engine of a game for a player
+     *
+     * @param gameId the id of the game
+     * @param age    the age of the player
+     * @return the new engine
+     * @throws IllegalArgumentException if the game has not been registered
+     */
+    public GameEngine create (long gameId, int age) {
+        GameEngineFactory factory = factories.get(gameId);
+        if (factory == null) {
+            throw new IllegalArgumentException("No game registered: " + gameId);
+        }
+        return factory.create(age);
+    }
+
+    /**
+     * Gets the number of games registered
+     *
+     * @return the number of games
+     */
+    public int size () {
+        return gameIds.size();
+    }
+
+    /**
+     * Gets the id of a game, in the order the games were registered
+     *
+     * @param index the index of the game, from 0 to {@link #size()} exclusive
+     * @return the id of the game
+     */
+    public long getGameId (int index) {
+        return gameIds.get(index);
+    }
+
+    /**
+     * Creates, and discards, one engine of every game for a player, loading the engine classes
+     * and building the question pools of the player's age
+     *
+     * @param age the age of the player
+     */
+    public void warm (int age) {
+        for (Long gameId : gameIds) {
+            factories.get(gameId).create(age);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ca.chrisbarrett.bubblecount.game;
+
+/**
+ * Immutable table of the labels a {@link GameEngine} can show on its bubbles. Answers are passed
+ * around as int codes, each the index of its label in the table, and only turned back into a
+ * String when a bubble is drawn. Every label is built and interned once, when the table is
+ * created, so looking one up never allocates and equal labels are the same String.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.game.GameEngine#getLabels()
+ * @since Oct 17, 2026
+ */
+public final class LabelTable {
+
+    private final String[] labels;
+
+    /**
+     * Constructor
+     *
+     * @param labels the labels, indexed by code. The array is copied
+     */
+    public LabelTable (String[] labels) {
+        this.labels = new String[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            this.labels[i] = labels[i].intern();
+        }
+    }
+
+    /**
+     * Creates a table of the numbers in a range, with code 0 being the smallest
+     *
+     * @param minValue the smallest number
+     * @param maxValue the largest number
+     * @return the table
+     */
+    public static LabelTable ofNumbers (int minValue, int maxValue) {
+        String[] labels = new String[maxValue - minValue + 1];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = Integer.toString(minValue + i);
+        }
+        return new LabelTable(labels);
+    }
+
+    /**
+     * Creates a table of the characters in a range, with code 0 being the smallest
+     *
+     * @param minValue the smallest character
+     * @param maxValue the largest character
+     * @return the table
+     */
+    public static LabelTable ofCharacters (char minValue, char maxValue) {
+        String[] labels = new String[maxValue - minValue + 1];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = String.valueOf((char) (minValue + i));
+        }
+        return new LabelTable(labels);
+    }
+
+    /**
+     * Gets the label of a code
+     *
+     * @param code the code, from 0 to {@link #size()} exclusive
+     * @return the interned label
+     */
+    public String get (int code) {
+        return labels[code];
+    }
+
+    /**
+     * Gets the number of labels
+     *
+     * @return the number of codes in the table
+     */
+    public int size () {
+        return labels.length;
+    }
+}
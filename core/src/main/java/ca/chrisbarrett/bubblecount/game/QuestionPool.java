@@ -0,0 +1,147 @@
+package ca.chrisbarrett.bubblecount.game;
+
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+
+/**
+ * Immutable pool of every round a {@link GameEngine} can ask. Each question shows the three
+ * labels leading up to its answer, for example "7  8  9  ?" for "10", and comes with a number of
+ * variants, each holding every other label of the {@link LabelTable} as a distractor in a
+ * different order. A round that cannot show every distractor therefore shows a different
+ * selection depending on the variant.
+ * <p/>
+ * The whole pool is built by the constructor, so picking a round is a matter of picking two
+ * indices, and nothing is allocated while a game is played. The distractor orders are shuffled
+ * from a fixed seed, so the same pool is built on every device and a game's seed still decides
+ * every round. A pool is safe to share between engines and threads.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.game.GameEngine#getQuestionPool()
+ * @since Oct 17, 2026
+ */
+public final class QuestionPool {
+
+    public static final int DEFAULT_VARIANTS = 8;
+    public static final int LEADING_LABELS = 3;
+    private static final long SEED = 0x5EEDL;
+
+    private final LabelTable labels;
+    private final String[] questions;
+    private final int[] answers;
+    private final int[][] distractors;
+    private final int variants;
+
+    /**
+     * Constructor
+     *
+     * @param labels    the labels of the answers and distractors
+     * @param minAnswer the code of the smallest answer, at least {@value #LEADING_LABELS}
+     * @param maxAnswer the code of the largest answer, inclusive
+     * @param variants  the number of distractor orders of each question
+     */
+    public QuestionPool (LabelTable labels, int minAnswer, int maxAnswer, int variants) {
+        if (minAnswer < LEADING_LABELS || maxAnswer >= labels.size() || minAnswer > maxAnswer || variants < 1) {
+            throw new IllegalArgumentException("No questions in answers " + minAnswer + " to " + maxAnswer);
+        }
+        this.labels = labels;
+        this.variants = variants;
+        int size = maxAnswer - minAnswer + 1;
+        questions = new String[size];
+        answers = new int[size];
+        distractors = new int[size * variants][];
+        XoroshiroRandom random = new XoroshiroRandom(SEED);
+        for (int question = 0; question < size; question++) {
+            int answer = minAnswer + question;
+            answers[question] = answer;
+            questions[question] = labels.get(answer - 3) + "  " + labels.get(answer - 2) + "  "
+                    + labels.get(answer - 1) + "  ?";
+            for (int variant = 0; variant < variants; variant++) {
+                distractors[question * variants + variant] = shuffledDistractors(answer, random);
+            }
+        }
+    }
+
+    public LabelTable getLabels () {
+        return labels;
+    }
+
+    /**
+     * Gets the number of questions
+     *
+     * @return the number of distinct answers in the pool
+     */
+    public int size () {
+        return questions.length;
+    }
+
+    public int getVariants () {
+        return variants;
+    }
+
+    /**
+     * Gets the question as a String for display
+     *
+     * @param question the index of the question, from 0 to {@link #size()} exclusive
+     * @return the question
+     */
+    public String getQuestion (int question) {
+        return questions[question];
+    }
+
+    /**
+     * Gets the answer to a question
+     *
+     * @param question the index of the question
+     * @return the code of the answer in {@link #getLabels()}
+     */
+    public int getAnswer (int question) {
+        return answers[question];
+    }
+
+    /**
+     * Gets the distractors of one variant of a question. The array is shared and must not be
+     * modified.
+     *
+     * @param question the index of the question
+     * @param variant  the index of the variant, from 0 to {@link #getVariants()} exclusive
+     * @return the codes of the distractors, {@link #getDistractorCount()} long
+     */
+    public int[] getDistractors (int question, int variant) {
+        return distractors[question * variants + variant];
+    }
+
+    /**
+     * Gets the number of distractors of every question
+     *
+     * @return one less than the number of labels
+     */
+    public int getDistractorCount () {
+        return labels.size() - 1;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to list every code other than the answer, in a random order
+     *
+     * @return the codes
+     */
+    private int[] shuffledDistractors (int answer, XoroshiroRandom random) {
+        int[] codes = new int[labels.size() - 1];
+        int count = 0;
+        for (int code = 0; code < labels.size(); code++) {
+            if (code != answer) {
+                codes[count++] = code;
+            }
+        }
+        // Fisher-Yates
+        for (int i = count - 1; i > 0; i--) {
+            int pick = random.nextInt(i + 1);
+            int code = codes[pick];
+            codes[pick] = codes[i];
+            codes[i] = code;
+        }
+        return codes;
+    }
+}
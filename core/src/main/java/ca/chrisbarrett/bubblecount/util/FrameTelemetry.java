@@ -0,0 +1,210 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer of per-frame timings. The thread drawing the game records one row per frame with
+ * {@link #record(long, long, long, int, int, int)}; the most recent {@link #getCapacity()} rows
+ * are kept in primitive arrays allocated once at construction, so recording does not allocate or
+ * lock.
+ * <p/>
+ * The recording thread can summarise recent frames with {@link #getFrameRate(long)},
+ * {@link #getMeanUpdateNanos(long)} and {@link #getMeanDrawNanos(long)}. Any other thread may export
+ * the rows with {@link #writeCsv(Writer)} while frames are still being recorded: the count of
+ * recorded rows is published with an ordered write after each row, and rows the recording thread
+ * could have overwritten while they were being read are left out.
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class FrameTelemetry {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int UNKNOWN = -1;
+    public static final String CSV_HEADER =
+            "frame,frameStartNanos,updateNanos,drawNanos,liveSprites,gcCount,droppedVsyncs";
+    // rows this close to being overwritten are not exported
+    private static final int EXPORT_MARGIN = 64;
+
+    private final long[] frameStart;
+    private final long[] update;
+    private final long[] draw;
+    private final int[] liveSprites;
+    private final int[] gcCount;
+    private final int[] droppedVsyncs;
+    private final int mask;
+    private final AtomicLong recorded = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param capacity the number of frames kept, rounded up to a power of two
+     */
+    public FrameTelemetry (int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, EXPORT_MARGIN * 2) * 2 - 1);
+        frameStart = new long[size];
+        update = new long[size];
+        draw = new long[size];
+        liveSprites = new int[size];
+        gcCount = new int[size];
+        droppedVsyncs = new int[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Records a frame. Must only be called from the thread drawing the game.
+     *
+     * @param frameStartNanos when the frame started, in the {@link System#nanoTime()} time base
+     * @param updateNanos     time spent advancing the game
+     * @param drawNanos       time spent drawing, or 0 if the frame was dropped
+     * @param liveSprites     the number of visible Sprites
+     * @param gcCount         collections since the round started, or {@link #UNKNOWN}
+     * @param droppedVsyncs   vsyncs dropped since the game started
+     */
+    public void record (long frameStartNanos, long updateNanos, long drawNanos, int liveSprites,
+                        int gcCount, int droppedVsyncs) {
+        long row = recorded.get();
+        int slot = (int) row & mask;
+        this.frameStart[slot] = frameStartNanos;
+        this.update[slot] = updateNanos;
+        this.draw[slot] = drawNanos;
+        this.liveSprites[slot] = liveSprites;
+        this.gcCount[slot] = gcCount;
+        this.droppedVsyncs[slot] = droppedVsyncs;
+        recorded.lazySet(row + 1);
+    }
+
+    /**
+     * Gets the frames per second over the frames that started in the given window. Must only be
+     * called from the thread drawing the game.
+     *
+     * @param windowNanos how far back to look from the latest frame
+     * @return the frame rate, or 0 if fewer than two frames are in the window
+     */
+    public float getFrameRate (long windowNanos) {
+        int frames = countRecent(windowNanos);
+        if (frames < 2) {
+            return 0;
+        }
+        long latest = recorded.get() - 1;
+        long elapsed = frameStart[(int) latest & mask] - frameStart[(int) (latest - frames + 1) & mask];
+        return elapsed <= 0 ? 0 : (frames - 1) * 1e9f / elapsed;
+    }
+
+    /**
+     * Gets the mean time spent advancing the game over the frames that started in the given window.
+     * Must only be called from the thread drawing the game.
+     *
+     * @param windowNanos how far back to look from the latest frame
+     * @return the mean in nanoseconds, or 0 if no frames were recorded
+     */
+    public long getMeanUpdateNanos (long windowNanos) {
+        return mean(update, countRecent(windowNanos));
+    }
+
+    /**
+     * Gets the mean time spent drawing over the frames that started in the given window. Must only
+     * be called from the thread drawing the game.
+     *
+     * @param windowNanos how far back to look from the latest frame
+     * @return the mean in nanoseconds, or 0 if no frames were recorded
+     */
+    public long getMeanDrawNanos (long windowNanos) {
+        return mean(draw, countRecent(windowNanos));
+    }
+
+    /**
+     * Gets the number of frames recorded since construction or {@link #clear()}, including those
+     * since overwritten
+     *
+     * @return the frame count
+     */
+    public long getRecordedFrames () {
+        return recorded.get();
+    }
+
+    public int getCapacity () {
+        return mask + 1;
+    }
+
+    /**
+     * Forgets every frame. Must only be called from the thread drawing the game.
+     */
+    public void clear () {
+        recorded.set(0);
+    }
+
+    /**
+     * Writes the kept frames, oldest first, as comma separated values with a {@link #CSV_HEADER}
+     * line. May be called from any thread.
+     *
+     * @param writer where to write the rows
+     * @return the number of rows written
+     * @throws IOException if the writer fails
+     */
+    public int writeCsv (Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long end = recorded.get();
+        long start = Math.max(0, end - getCapacity() + EXPORT_MARGIN);
+        StringBuilder line = new StringBuilder();
+        int rows = 0;
+        for (long row = start; row < end; row++) {
+            int slot = (int) row & mask;
+            line.setLength(0);
+            line.append(row).append(',')
+                    .append(frameStart[slot]).append(',')
+                    .append(update[slot]).append(',')
+                    .append(draw[slot]).append(',')
+                    .append(liveSprites[slot]).append(',')
+                    .append(gcCount[slot]).append(',')
+                    .append(droppedVsyncs[slot]).append('\n');
+            if (recorded.get() - row >= getCapacity()) {
+                // the slot may have been reused while it was read; skip ahead to rows still kept
+                row = recorded.get() - getCapacity() + EXPORT_MARGIN - 1;
+                continue;
+            }
+            writer.write(line.toString());
+            rows++;
+        }
+        return rows;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to count the latest frames that started within a window of the latest frame
+     */
+    private int countRecent (long windowNanos) {
+        long latest = recorded.get() - 1;
+        if (latest < 0) {
+            return 0;
+        }
+        long oldest = Math.max(0, latest - mask);
+        long since = frameStart[(int) latest & mask] - windowNanos;
+        int frames = 0;
+        for (long row = latest; row >= oldest && frameStart[(int) row & mask] >= since; row--) {
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * Helper method to average the latest values of a column
+     */
+    private long mean (long[] column, int frames) {
+        if (frames == 0) {
+            return 0;
+        }
+        long latest = recorded.get() - 1;
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += column[(int) (latest - i) & mask];
+        }
+        return total / frames;
+    }
+}
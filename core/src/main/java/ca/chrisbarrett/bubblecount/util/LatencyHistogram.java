@@ -0,0 +1,142 @@
+package ca.chrisbarrett.bubblecount.util;
+
+/**
+ * Fixed-bucket histogram of latencies, in the style of an HDR histogram. Latencies are counted in
+ * microseconds; values below {@value #SUB_BUCKETS} microseconds get a bucket each, and every
+ * power of two above that is split into {@value #SUB_BUCKETS}/2 linear buckets, so a percentile is
+ * never off by more than about 12.5%. Latencies above {@value #MAX_MICROS} microseconds are counted
+ * in the last bucket.
+ * <p/>
+ * The buckets are allocated once at construction; recording and reading percentiles do not
+ * allocate. The histogram is not thread safe.
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class LatencyHistogram {
+
+    public static final int SUB_BUCKETS = 16;
+    public static final long MAX_MICROS = 1L << 24;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final String name;
+    private final long[] counts;
+    private long totalCount;
+    private long maxNanos;
+
+    /**
+     * Constructor
+     *
+     * @param name what is being measured, used in {@link #toString()}
+     */
+    public LatencyHistogram (String name) {
+        this.name = name;
+        this.counts = new long[bucketOf(MAX_MICROS) + 1];
+    }
+
+    /**
+     * Counts a latency
+     *
+     * @param nanos the latency in nanoseconds. Negative values, from clocks read on different
+     *              threads, are counted as 0
+     */
+    public void record (long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[bucketOf(Math.min(nanos / NANOS_PER_MICRO, MAX_MICROS))]++;
+        totalCount++;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Gets the latency at or below which the given percentage of recorded latencies fall
+     *
+     * @param percentile between 0 and 100
+     * @return the highest latency in the bucket holding the percentile, in nanoseconds, or 0 if
+     * nothing has been recorded
+     */
+    public long getPercentile (double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestMicrosOf(i) * NANOS_PER_MICRO + NANOS_PER_MICRO - 1, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getCount () {
+        return totalCount;
+    }
+
+    public long getMax () {
+        return maxNanos;
+    }
+
+    /**
+     * Forgets every recorded latency
+     */
+    public void reset () {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        totalCount = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Summarises the histogram on one line, using only characters in
+     * {@code GlyphAtlas.DEFAULT_CHARACTERS}, so the debug overlay can draw it
+     *
+     * @return the count and the 50th, 95th and 99th percentiles in milliseconds
+     */
+    @Override
+    public String toString () {
+        return String.format("%s n=%d p50=%.1fms p95=%.1fms p99=%.1fms", name, totalCount,
+                getPercentile(50) / 1e6, getPercentile(95) / 1e6, getPercentile(99) / 1e6);
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to find the bucket counting a latency
+     *
+     * @param micros the latency in microseconds, at most {@link #MAX_MICROS}
+     * @return the bucket index
+     */
+    private static int bucketOf (long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (micros >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + subBucket - HALF_SUB_BUCKETS;
+    }
+
+    /**
+     * Helper method to find the highest latency counted by a bucket
+     *
+     * @param bucket the bucket index
+     * @return the latency in microseconds
+     */
+    private static long highestMicrosOf (int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
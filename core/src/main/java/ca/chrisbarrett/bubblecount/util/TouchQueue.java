@@ -0,0 +1,122 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands touches from the UI thread to the game thread. The queue is a ring buffer of primitive
+ * (x, y, time) records for exactly one producer thread, which calls
+ * {@link #offer(float, float, long)}, and one consumer thread, which calls {@link #poll()} and
+ * {@link #clear()}.
+ * <p/>
+ * Neither side takes a lock or allocates. Each side owns one index and only publishes it with
+ * an ordered write after the record it covers has been written or read. When the consumer falls
+ * behind and the buffer fills, further touches are dropped rather than blocking the UI thread.
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class TouchQueue {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final float[] x;
+    private final float[] y;
+    private final long[] time;
+    private final int mask;
+    // next slot the producer writes; only the producer advances it
+    private final AtomicInteger head = new AtomicInteger();
+    // next slot the consumer reads; only the consumer advances it
+    private final AtomicInteger tail = new AtomicInteger();
+    private float polledX;
+    private float polledY;
+    private long polledTime;
+
+    /**
+     * Constructor
+     *
+     * @param capacity the number of touches that can be waiting, rounded up to a power of two
+     */
+    public TouchQueue (int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1);
+        x = new float[size];
+        y = new float[size];
+        time = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Adds a touch. Must only be called from the producer thread.
+     *
+     * @param x    the X coordinate of the touch
+     * @param y    the Y coordinate of the touch
+     * @param time when the touch happened, in milliseconds. On Android this is the
+     *             {@code SystemClock.uptimeMillis()} time base of {@code MotionEvent.getEventTime()}
+     * @return true if the touch was queued, false if the queue was full and it was dropped
+     */
+    public boolean offer (float x, float y, long time) {
+        int position = head.get();
+        if (position - tail.get() > mask) {
+            return false;
+        }
+        int slot = position & mask;
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.time[slot] = time;
+        head.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * Takes the oldest touch off the queue. Its values are then available from {@link #getX()},
+     * {@link #getY()} and {@link #getTime()} until the next poll. Must only be called from the
+     * consumer thread.
+     *
+     * @return true if a touch was taken, false if the queue was empty
+     */
+    public boolean poll () {
+        int position = tail.get();
+        if (position == head.get()) {
+            return false;
+        }
+        int slot = position & mask;
+        polledX = x[slot];
+        polledY = y[slot];
+        polledTime = time[slot];
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * Discards every waiting touch. Must only be called from the consumer thread.
+     */
+    public void clear () {
+        tail.lazySet(head.get());
+    }
+
+    /**
+     * Gets the X coordinate of the touch taken by the last {@link #poll()}
+     *
+     * @return the X coordinate
+     */
+    public float getX () {
+        return polledX;
+    }
+
+    /**
+     * Gets the Y coordinate of the touch taken by the last {@link #poll()}
+     *
+     * @return the Y coordinate
+     */
+    public float getY () {
+        return polledY;
+    }
+
+    /**
+     * Gets when the touch taken by the last {@link #poll()} happened
+     *
+     * @return the time it was offered with, in milliseconds
+     */
+    public long getTime () {
+        return polledTime;
+    }
+}
@@ -0,0 +1,49 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+/**
+ * An immutable set of bubble centres, no two closer than a bubble's diameter, covering the game
+ * area. Layouts are generated once per screen size by a {@link PoissonDiskSampler} and shared by
+ * every round.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.BubblePlacer
+ * @since Oct 17, 2026
+ */
+public class BubbleLayout {
+
+    private final float[] x;
+    private final float[] y;
+
+    /**
+     * Constructor. Copies the last sample of a sampler, shifted by an offset.
+     *
+     * @param sampler the sampler
+     * @param count   the number of points in its last sample
+     * @param offset  added to both coordinates of every point
+     */
+    public BubbleLayout (PoissonDiskSampler sampler, int count, float offset) {
+        x = new float[count];
+        y = new float[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = sampler.getX()[i] + offset;
+            y[i] = sampler.getY()[i] + offset;
+        }
+    }
+
+    /**
+     * Gets the number of bubbles the layout places
+     *
+     * @return the number of centres
+     */
+    public int size () {
+        return x.length;
+    }
+
+    public float getX (int index) {
+        return x[index];
+    }
+
+    public float getY (int index) {
+        return y[index];
+    }
+}
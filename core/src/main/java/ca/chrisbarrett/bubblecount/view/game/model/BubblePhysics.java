@@ -0,0 +1,159 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+/**
+ * Moves the Sprites of a {@link SpriteStore} through one fixed timestep. Each step:
+ * <ol>
+ * <li>integrates every visible Sprite's position from its velocity,</li>
+ * <li>reflects Sprites off the walls of the game area, and</li>
+ * <li>resolves bubble to bubble contacts, found through a {@link SpatialHash}, as elastic
+ * collisions between discs whose mass grows with their area.</li>
+ * </ol>
+ * Distances are only ever compared squared, so the step never calls {@link Math#sqrt(double)}.
+ * Reflections move a Sprite back inside the area by however far it went past a wall, and
+ * collisions only change velocities of Sprites moving towards each other, so large timesteps
+ * neither lose Sprites through walls nor glue touching Sprites together.
+ * <p/>
+ * Velocities are in pixels per second. A step does not allocate.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpatialHash
+ * @since Oct 17, 2026
+ */
+public class BubblePhysics {
+
+    private final float width;
+    private final float height;
+    private final int[] collisions;
+
+    /**
+     * Constructor
+     *
+     * @param width    the width of the game area
+     * @param height   the height of the game area
+     * @param capacity the most Sprites a step will be given
+     */
+    public BubblePhysics (float width, float height, int capacity) {
+        this.width = width;
+        this.height = height;
+        this.collisions = new int[capacity];
+    }
+
+    /**
+     * Advances the visible Sprites by one timestep. The grid is rebuilt from the new positions, so
+     * it can be queried until the next step.
+     *
+     * @param sprites     the Sprites to move
+     * @param spatialHash the grid over the same Sprites
+     * @param seconds     the length of the timestep
+     */
+    public void step (SpriteStore sprites, SpatialHash spatialHash, float seconds) {
+        spatialHash.clear();
+        int size = sprites.size();
+        for (int i = 0; i < size; i++) {
+            if (!sprites.getVisibility(i)) {
+                continue;
+            }
+            sprites.update(i);
+            integrate(sprites, i, seconds);
+            spatialHash.insert(i);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (!sprites.getVisibility(i)) {
+                continue;
+            }
+            int count = spatialHash.getCollisions(i, collisions);
+            for (int j = 0; j < count; j++) {
+                if (sprites.getVisibility(collisions[j])) {
+                    collide(sprites, i, collisions[j]);
+                }
+            }
+        }
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to move a Sprite along its velocity and reflect it off the walls
+     *
+     * @param sprites the Sprites
+     * @param index   the Sprite index
+     * @param seconds the length of the timestep
+     */
+    protected void integrate (SpriteStore sprites, int index, float seconds) {
+        float radius = sprites.getRadius(index);
+        float xSpeed = sprites.getXSpeed(index);
+        float ySpeed = sprites.getYSpeed(index);
+        float x = sprites.getX(index) + xSpeed * seconds;
+        float y = sprites.getY(index) + ySpeed * seconds;
+
+        float left = radius;
+        float right = width - radius;
+        if (x < left) {
+            x = Math.min(left + (left - x), right);
+            xSpeed = Math.abs(xSpeed);
+        } else if (x > right) {
+            x = Math.max(right - (x - right), left);
+            xSpeed = -Math.abs(xSpeed);
+        }
+        float top = radius;
+        float bottom = height - radius;
+        if (y < top) {
+            y = Math.min(top + (top - y), bottom);
+            ySpeed = Math.abs(ySpeed);
+        } else if (y > bottom) {
+            y = Math.max(bottom - (y - bottom), top);
+            ySpeed = -Math.abs(ySpeed);
+        }
+        sprites.moveTo(index, x, y);
+        sprites.setXSpeed(index, xSpeed);
+        sprites.setYSpeed(index, ySpeed);
+    }
+
+    /**
+     * Helper method to resolve an elastic collision between two overlapping Sprites. Velocities
+     * are exchanged along the line between the centres, weighted by mass, only if the Sprites are
+     * approaching. The overlap is then pushed apart, using a first order estimate of the
+     * penetration depth that needs no square root.
+     *
+     * @param sprites the Sprites
+     * @param first   the index of the first Sprite
+     * @param second  the index of the second Sprite
+     */
+    protected void collide (SpriteStore sprites, int first, int second) {
+        float dx = sprites.getX(second) - sprites.getX(first);
+        float dy = sprites.getY(second) - sprites.getY(first);
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared == 0) {
+            // concentric, so there is no line between the centres to push along
+            return;
+        }
+        float firstRadius = sprites.getRadius(first);
+        float secondRadius = sprites.getRadius(second);
+        float firstMass = firstRadius * firstRadius;
+        float secondMass = secondRadius * secondRadius;
+        float totalMass = firstMass + secondMass;
+
+        float dvx = sprites.getXSpeed(second) - sprites.getXSpeed(first);
+        float dvy = sprites.getYSpeed(second) - sprites.getYSpeed(first);
+        float approach = dvx * dx + dvy * dy;
+        if (approach < 0) {
+            float impulse = 2 * approach / (distanceSquared * totalMass);
+            sprites.setXSpeed(first, sprites.getXSpeed(first) + impulse * secondMass * dx);
+            sprites.setYSpeed(first, sprites.getYSpeed(first) + impulse * secondMass * dy);
+            sprites.setXSpeed(second, sprites.getXSpeed(second) - impulse * firstMass * dx);
+            sprites.setYSpeed(second, sprites.getYSpeed(second) - impulse * firstMass * dy);
+        }
+
+        // penetration / distance ~= (reach^2 - distance^2) / (2 * reach^2) near contact
+        float reach = firstRadius + secondRadius;
+        float reachSquared = reach * reach;
+        float separation = (reachSquared - distanceSquared) / (2 * reachSquared);
+        float firstShare = separation * secondMass / totalMass;
+        float secondShare = separation * firstMass / totalMass;
+        sprites.moveTo(first, sprites.getX(first) - dx * firstShare, sprites.getY(first) - dy * firstShare);
+        sprites.moveTo(second, sprites.getX(second) + dx * secondShare, sprites.getY(second) + dy * secondShare);
+    }
+}
@@ -0,0 +1,123 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import ca.chrisbarrett.bubblecount.core.RandomSource;
+import ca.chrisbarrett.bubblecount.game.LabelTable;
+
+/**
+ * Places the bubbles of a round. The bubbles are positioned at the centres of one of a set of
+ * {@link BubbleLayout}s, picked at random and randomly mirrored, and given a random velocity, frame
+ * and animation phase. The centres of a layout are never closer than a bubble's diameter, so
+ * bubbles never overlap, and placing them takes the same time every round.
+ * <p/>
+ * All working storage is allocated by the constructor. A BubblePlacer is not thread safe; each
+ * thread generating rounds needs its own.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.BubbleLayout
+ * @since Oct 17, 2026
+ */
+public class BubblePlacer {
+
+    private final BubbleLayout[] layouts;
+    private final int[] layoutOrder;
+    private final float width;
+    private final float height;
+    private final int totalFrames;
+    private final RandomSource random;
+
+    /**
+     * Constructor
+     *
+     * @param layouts     the layouts to pick from, all covering the same area
+     * @param width       the width of the area
+     * @param height      the height of the area
+     * @param totalFrames the number of frames of the sprite sheet
+     * @param random      the source of randomness
+     */
+    public BubblePlacer (BubbleLayout[] layouts, float width, float height, int totalFrames,
+                         RandomSource random) {
+        this.layouts = layouts;
+        this.width = width;
+        this.height = height;
+        this.totalFrames = totalFrames;
+        this.random = random;
+        int largestLayout = 0;
+        for (BubbleLayout layout : layouts) {
+            largestLayout = Math.max(largestLayout, layout.size());
+        }
+        this.layoutOrder = new int[largestLayout];
+    }
+
+    /**
+     * Empties a round and fills it with bubbles, the first holding the answer. The total number of
+     * bubbles will be the least of the number of elements, the capacity of the
+     * {@link SpriteStore} and the size of the layout picked. When the layout has more centres than
+     * bubbles, a random subset is used, so the bubbles still spread across the whole area.
+     *
+     * @param sprites        receives the bubbles
+     * @param spatialHash    receives the index of every bubble
+     * @param labels         the table the codes index
+     * @param answer         the code of the correct bubble
+     * @param incorrect      the codes of the other bubbles
+     * @param incorrectCount the number of valid values in incorrect
+     */
+    public void place (SpriteStore sprites, SpatialHash spatialHash, LabelTable labels, int answer,
+                       int[] incorrect, int incorrectCount) {
+        sprites.clear();
+        sprites.setLabels(labels);
+        spatialHash.clear();
+
+        BubbleLayout layout = layouts[random.nextInt(layouts.length)];
+        boolean isMirroredX = random.nextBoolean();
+        boolean isMirroredY = random.nextBoolean();
+        int positions = layout.size();
+        for (int i = 0; i < positions; i++) {
+            layoutOrder[i] = i;
+        }
+
+        // Always insert the first bubble_sprite as it as the correct answer
+        int label = answer;
+        for (int i = 0; i < positions && sprites.size() < sprites.capacity(); i++) {
+            // a partial shuffle picks each centre at most once
+            int pick = i + random.nextInt(positions - i);
+            int position = layoutOrder[pick];
+            layoutOrder[pick] = layoutOrder[i];
+            layoutOrder[i] = position;
+            float x = isMirroredX ? width - layout.getX(position) : layout.getX(position);
+            float y = isMirroredY ? height - layout.getY(position) : layout.getY(position);
+            spatialHash.insert(addSprite(sprites, x, y, label));
+            if (i == incorrectCount) {
+                break;
+            }
+            label = incorrect[i];
+        }
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to add a bubble to a {@link SpriteStore} with a random velocity, frame and
+     * phase
+     *
+     * @return the index of the bubble
+     */
+    private int addSprite (SpriteStore sprites, float x, float y, int label) {
+        float xSpeed = randomSpeed();
+        float ySpeed = randomSpeed();
+        int frame = random.nextInt(totalFrames);
+        return sprites.add(x, y, xSpeed, ySpeed, SpriteStore.DEFAULT_RADIUS, frame,
+                random.nextInt(FrameTable.CYCLE_TICKS), label);
+    }
+
+    /**
+     * Helper method to pick a speed along one axis, in either direction
+     *
+     * @return the speed in pixels per second
+     */
+    private float randomSpeed () {
+        float speed = (float) random.nextInt(SpriteStore.MAX_SPEED - SpriteStore.MIN_SPEED) + SpriteStore.MIN_SPEED;
+        return random.nextBoolean() ? speed : -speed;
+    }
+}
@@ -0,0 +1,80 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import ca.chrisbarrett.bubblecount.core.IntRect;
+
+/**
+ * Immutable table of the source rectangles of a sprite sheet through one cycle of the squish
+ * animation. A bubble squishes, narrowing and heightening its frame by a pixel a tick, for
+ * {@value #HALF_CYCLE_TICKS} ticks, then stretches back for as many, swinging between
+ * {@value #MAX_SQUISH} pixels either way.
+ * <p/>
+ * The table is built once per sheet and shared by every bubble drawn from it. A bubble only keeps
+ * an int phase, so animating it is a lookup rather than per-bubble rectangle arithmetic.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpriteStore
+ * @since Oct 17, 2026
+ */
+public final class FrameTable {
+
+    public static final int MAX_SQUISH = 6;
+    public static final int HALF_CYCLE_TICKS = MAX_SQUISH * 2;
+    public static final int CYCLE_TICKS = HALF_CYCLE_TICKS * 2;
+
+    private final int[] squish = new int[CYCLE_TICKS];
+    private final int[] left;
+    private final int[] top;
+    private final int[] right;
+    private final int[] bottom;
+
+    /**
+     * Constructor. Works out the rectangle of every frame at every phase.
+     *
+     * @param totalFrames the number of frames across the sheet
+     * @param frameWidth  the width of a frame
+     * @param frameHeight the height of a frame
+     */
+    public FrameTable (int totalFrames, int frameWidth, int frameHeight) {
+        for (int phase = 0; phase < CYCLE_TICKS; phase++) {
+            squish[phase] = phase < HALF_CYCLE_TICKS
+                    ? phase - MAX_SQUISH : CYCLE_TICKS - phase - MAX_SQUISH;
+        }
+        int entries = totalFrames * CYCLE_TICKS;
+        left = new int[entries];
+        top = new int[entries];
+        right = new int[entries];
+        bottom = new int[entries];
+        for (int frame = 0; frame < totalFrames; frame++) {
+            int frameLeft = frame * frameWidth;
+            for (int phase = 0; phase < CYCLE_TICKS; phase++) {
+                int entry = frame * CYCLE_TICKS + phase;
+                left[entry] = frameLeft + squish[phase];
+                top[entry] = -squish[phase];
+                right[entry] = frameLeft + frameWidth - squish[phase];
+                bottom[entry] = frameHeight + squish[phase];
+            }
+        }
+    }
+
+    /**
+     * Gets how far a frame is squished at a point in the cycle
+     *
+     * @param phase ticks into the animation, of any size
+     * @return the squish in pixels. Negative values stretch the frame
+     */
+    public int getSquish (int phase) {
+        return squish[phase % CYCLE_TICKS];
+    }
+
+    /**
+     * Gets the portion of the sheet to display for a frame at a point in the cycle
+     *
+     * @param frame  the frame of the sheet
+     * @param phase  ticks into the animation, of any size
+     * @param source receives the source rectangle
+     */
+    public void getSource (int frame, int phase, IntRect source) {
+        int entry = frame * CYCLE_TICKS + phase % CYCLE_TICKS;
+        source.set(left[entry], top[entry], right[entry], bottom[entry]);
+    }
+}
@@ -0,0 +1,172 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import ca.chrisbarrett.bubblecount.core.RandomSource;
+
+/**
+ * Generates points in a rectangle, no two closer than a minimum distance, using Bridson's
+ * algorithm ("Fast Poisson Disk Sampling in Arbitrary Dimensions", 2007). Points are added around
+ * an active list of existing points until no more fit, leaving the rectangle evenly and densely
+ * covered. Each point tries a fixed number of candidates, and each candidate is checked against a
+ * background grid whose cells hold at most one point, so a sample takes time proportional to the
+ * number of points produced.
+ * <p/>
+ * All storage is allocated by the constructor and reused by every call to {@link #sample(int)}.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.BubbleLayout
+ * @since Oct 17, 2026
+ */
+public class PoissonDiskSampler {
+
+    public static final int DEFAULT_CANDIDATES = 30;
+    private static final int EMPTY = -1;
+
+    private final float width;
+    private final float height;
+    private final float minDistance;
+    private final float minDistanceSquared;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final int candidates;
+    private final RandomSource random;
+    private final int[] grid;
+    private final int[] active;
+    private final float[] x;
+    private final float[] y;
+
+    /**
+     * Constructor
+     *
+     * @param width       the width of the rectangle. Points are placed from 0 to width inclusive
+     * @param height      the height of the rectangle. Points are placed from 0 to height inclusive
+     * @param minDistance the smallest distance allowed between two points
+     * @param candidates  the number of candidates tried around a point before it is retired
+     * @param random      the source of randomness
+     */
+    public PoissonDiskSampler (float width, float height, float minDistance, int candidates, RandomSource random) {
+        if (minDistance <= 0) {
+            throw new IllegalArgumentException("minDistance must be greater than 0");
+        }
+        this.width = Math.max(0, width);
+        this.height = Math.max(0, height);
+        this.minDistance = minDistance;
+        this.minDistanceSquared = minDistance * minDistance;
+        // a cell's diagonal is the minimum distance, so no cell can hold two points
+        this.cellSize = minDistance / (float) Math.sqrt(2);
+        this.columns = (int) (this.width / cellSize) + 1;
+        this.rows = (int) (this.height / cellSize) + 1;
+        this.candidates = candidates;
+        this.random = random;
+        this.grid = new int[columns * rows];
+        this.active = new int[columns * rows];
+        this.x = new float[columns * rows];
+        this.y = new float[columns * rows];
+    }
+
+    /**
+     * Fills the rectangle with points
+     *
+     * @param maxPoints the most points to produce
+     * @return the number of points produced, readable from {@link #getX()} and {@link #getY()}
+     */
+    public int sample (int maxPoints) {
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = EMPTY;
+        }
+        maxPoints = Math.min(maxPoints, x.length);
+        if (maxPoints <= 0) {
+            return 0;
+        }
+        int count = 0;
+        int activeCount = 0;
+        add(count, random.nextFloat() * width, random.nextFloat() * height);
+        active[activeCount++] = count++;
+
+        while (activeCount > 0 && count < maxPoints) {
+            int slot = random.nextInt(activeCount);
+            int point = active[slot];
+            boolean isPlaced = false;
+            for (int i = 0; i < candidates; i++) {
+                // uniform over the annulus between minDistance and twice minDistance
+                double angle = random.nextDouble() * Math.PI * 2;
+                double distance = Math.sqrt(minDistanceSquared * (1 + 3 * random.nextDouble()));
+                float candidateX = x[point] + (float) (Math.cos(angle) * distance);
+                float candidateY = y[point] + (float) (Math.sin(angle) * distance);
+                if (isFree(candidateX, candidateY)) {
+                    add(count, candidateX, candidateY);
+                    active[activeCount++] = count++;
+                    isPlaced = true;
+                    break;
+                }
+            }
+            if (!isPlaced) {
+                active[slot] = active[--activeCount];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the X coordinates of the last sample. Only the number of values returned by
+     * {@link #sample(int)} are valid.
+     *
+     * @return the X coordinates
+     */
+    public float[] getX () {
+        return x;
+    }
+
+    /**
+     * Gets the Y coordinates of the last sample. Only the number of values returned by
+     * {@link #sample(int)} are valid.
+     *
+     * @return the Y coordinates
+     */
+    public float[] getY () {
+        return y;
+    }
+
+    public float getMinDistance () {
+        return minDistance;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to store a point and file it in the grid
+     */
+    private void add (int point, float pointX, float pointY) {
+        x[point] = pointX;
+        y[point] = pointY;
+        grid[(int) (pointY / cellSize) * columns + (int) (pointX / cellSize)] = point;
+    }
+
+    /**
+     * Helper method to check whether a point is inside the rectangle and at least the minimum
+     * distance from every point placed. Only the 5 x 5 block of cells around it can hold a point
+     * that close.
+     */
+    private boolean isFree (float pointX, float pointY) {
+        if (pointX < 0 || pointX > width || pointY < 0 || pointY > height) {
+            return false;
+        }
+        int column = (int) (pointX / cellSize);
+        int row = (int) (pointY / cellSize);
+        for (int r = Math.max(0, row - 2); r <= Math.min(rows - 1, row + 2); r++) {
+            for (int c = Math.max(0, column - 2); c <= Math.min(columns - 1, column + 2); c++) {
+                int other = grid[r * columns + c];
+                if (other != EMPTY) {
+                    float dx = x[other] - pointX;
+                    float dy = y[other] - pointY;
+                    if (dx * dx + dy * dy < minDistanceSquared) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+import ca.chrisbarrett.bubblecount.game.GameEngine;
+
+/**
+ * Generates the rounds of one game from the game's seed. Each round draws from its own stream,
+ * seeded by {@link XoroshiroRandom#deriveSeed(long, int)} from the game seed and the round number,
+ * and the {@link GameEngine} and the {@link BubblePlacer} both draw from it in a fixed order. Any
+ * round of a game can therefore be regenerated bit for bit from the game seed, the round number
+ * and the size of the game area, without generating the rounds before it. The exception is an
+ * engine set not to repeat questions, whose rounds also depend on the questions already asked;
+ * its rounds are regenerated by generating the game from round 1.
+ * <p/>
+ * A RoundGenerator is not thread safe. It may be handed from one thread to another as long as the
+ * handover is synchronized.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.core.XoroshiroRandom
+ * @since Oct 17, 2026
+ */
+public class RoundGenerator {
+
+    private final GameEngine gameEngine;
+    private final BubblePlacer placer;
+    private final XoroshiroRandom random;
+    private final long seed;
+
+    /**
+     * Constructor. The engine is given the generator's randomness, and must not be used elsewhere.
+     *
+     * @param gameEngine  the engine generating the questions
+     * @param layouts     the layouts bubbles are placed on
+     * @param width       the width of the game area
+     * @param height      the height of the game area
+     * @param totalFrames the number of frames of the sprite sheet
+     * @param seed        the seed of the game
+     */
+    public RoundGenerator (GameEngine gameEngine, BubbleLayout[] layouts, float width, float height,
+                           int totalFrames, long seed) {
+        this.gameEngine = gameEngine;
+        this.seed = seed;
+        this.random = new XoroshiroRandom(seed);
+        this.placer = new BubblePlacer(layouts, width, height, totalFrames, random);
+        gameEngine.setRandomSource(random);
+    }
+
+    /**
+     * Generates a round. The question and answer are left in the {@link GameEngine}. Neither the
+     * engine nor the placement allocates.
+     *
+     * @param roundNumber the number of the round in the game, from 1
+     * @param sprites     receives the bubbles
+     * @param spatialHash receives the index of every bubble
+     */
+    public void generate (int roundNumber, SpriteStore sprites, SpatialHash spatialHash) {
+        random.setSeed(XoroshiroRandom.deriveSeed(seed, roundNumber));
+        gameEngine.randomize();
+        placer.place(sprites, spatialHash, gameEngine.getLabels(), gameEngine.getCorrectCode(),
+                gameEngine.getIncorrectCodes(), gameEngine.getIncorrectCount());
+    }
+
+    public GameEngine getGameEngine () {
+        return gameEngine;
+    }
+
+    public long getSeed () {
+        return seed;
+    }
+}
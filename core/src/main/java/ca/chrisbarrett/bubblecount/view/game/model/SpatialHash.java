@@ -0,0 +1,178 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+/**
+ * Uniform grid broadphase for the Sprites of a {@link SpriteStore}. The area is divided into
+ * square cells at least as wide as the largest Sprite's diameter, and each Sprite is filed under
+ * the cell holding its centre. Any Sprite that can touch a point or another Sprite is therefore in
+ * the same cell or one of the eight cells around it, so queries only test a 3 x 3 block of cells
+ * instead of every Sprite.
+ * <p/>
+ * Cells are kept as singly linked lists of Sprite indices threaded through int arrays, so
+ * {@link #clear()} and {@link #insert(int)} never allocate. The grid is meant to be rebuilt once
+ * per tick.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpriteStore
+ * @since Oct 17, 2026
+ */
+public class SpatialHash {
+
+    private static final int EMPTY = -1;
+
+    private final SpriteStore store;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHead;
+    private final int[] spriteCell;
+    private final int[] next;
+
+    /**
+     * Constructor. Defines the area covered by the grid.
+     *
+     * @param store    the Sprites to index
+     * @param width    the width of the area
+     * @param height   the height of the area
+     * @param cellSize the width of a cell. Must be at least the diameter of the largest Sprite
+     */
+    public SpatialHash (SpriteStore store, float width, float height, float cellSize) {
+        this.store = store;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[columns * rows];
+        this.spriteCell = new int[store.capacity()];
+        this.next = new int[store.capacity()];
+        clear();
+    }
+
+    /**
+     * Removes all Sprites from the grid
+     */
+    public void clear () {
+        for (int i = 0; i < cellHead.length; i++) {
+            cellHead[i] = EMPTY;
+        }
+    }
+
+    /**
+     * Files the Sprite under the cell holding its centre
+     *
+     * @param index the Sprite index in the store
+     */
+    public void insert (int index) {
+        int cell = cellOf(store.getX(index), store.getY(index));
+        spriteCell[index] = cell;
+        next[index] = cellHead[cell];
+        cellHead[cell] = index;
+    }
+
+    /**
+     * Finds a visible Sprite covering the point
+     *
+     * @param x the X coordinate of the point
+     * @param y the Y coordinate of the point
+     * @return the Sprite index, or {@link SpriteStore#NO_SPRITE} if the point does not touch any
+     * visible Sprite
+     */
+    public int findAt (float x, float y) {
+        int column = columnOf(x);
+        int row = rowOf(y);
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, column - 1); c <= Math.min(columns - 1, column + 1); c++) {
+                for (int index = cellHead[r * columns + c]; index != EMPTY; index = next[index]) {
+                    if (store.getVisibility(index) && store.isCollision(index, x, y, 0)) {
+                        return index;
+                    }
+                }
+            }
+        }
+        return SpriteStore.NO_SPRITE;
+    }
+
+    /**
+     * Checks whether a circle overlaps any Sprite in the grid
+     *
+     * @param x      the X coordinate of the circle's centre
+     * @param y      the Y coordinate of the circle's centre
+     * @param radius the radius of the circle
+     * @return true if the circle collides with a Sprite in the grid
+     */
+    public boolean isColliding (float x, float y, float radius) {
+        int column = columnOf(x);
+        int row = rowOf(y);
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, column - 1); c <= Math.min(columns - 1, column + 1); c++) {
+                for (int index = cellHead[r * columns + c]; index != EMPTY; index = next[index]) {
+                    if (store.isCollision(index, x, y, radius)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the Sprites colliding with a Sprite in the grid. Only Sprites with a higher index than
+     * the one given are reported, so walking every index reports each colliding pair exactly once.
+     *
+     * @param index   the Sprite index to test
+     * @param results receives the indices of colliding Sprites
+     * @return the number of indices written to results
+     */
+    public int getCollisions (int index, int[] results) {
+        int cell = spriteCell[index];
+        int row = cell / columns;
+        int column = cell % columns;
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, column - 1); c <= Math.min(columns - 1, column + 1); c++) {
+                for (int other = cellHead[r * columns + c]; other != EMPTY; other = next[other]) {
+                    if (other > index && count < results.length && store.isCollision(index, other)) {
+                        results[count++] = other;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to find the cell for a point. Points outside the area are clamped to the
+     * nearest edge cell.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @return the cell index
+     */
+    protected int cellOf (float x, float y) {
+        return rowOf(y) * columns + columnOf(x);
+    }
+
+    /**
+     * Helper method to find the column for an X coordinate, clamped to the grid
+     *
+     * @param x the X coordinate
+     * @return the column
+     */
+    protected int columnOf (float x) {
+        int column = (int) (x / cellSize);
+        return column < 0 ? 0 : (column >= columns ? columns - 1 : column);
+    }
+
+    /**
+     * Helper method to find the row for a Y coordinate, clamped to the grid
+     *
+     * @param y the Y coordinate
+     * @return the row
+     */
+    protected int rowOf (float y) {
+        int row = (int) (y / cellSize);
+        return row < 0 ? 0 : (row >= rows ? rows - 1 : row);
+    }
+}
@@ -0,0 +1,381 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import ca.chrisbarrett.bubblecount.game.LabelTable;
+
+/**
+ * Holds the state of every bubble Sprite in a round as parallel primitive arrays, one slot per
+ * Sprite. Sprites are addressed by their index, which stays fixed until {@link #clear()}; a
+ * Sprite that has been popped is only marked invisible, so indices handed out earlier in the
+ * round remain valid.
+ * <p/>
+ * All arrays are allocated once at construction. Adding, updating and iterating Sprites does not
+ * allocate, and no iterators or boxed values are involved. The text of a Sprite is held as a
+ * code into the {@link LabelTable} of the round, and only looked up when it is drawn.
+ *
+ * @author Chris Barrett
+ * @see ca.chrisbarrett.bubblecount.view.game.model.SpatialHash
+ * @since Oct 17, 2026
+ */
+public class SpriteStore {
+
+    public static final int NO_SPRITE = -1;
+    public static final float DEFAULT_RADIUS = 100;
+    public static final int MAX_SPEED = 360;
+    public static final int MIN_SPEED = 180;
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] previousX;
+    private final float[] previousY;
+    private final float[] xSpeed;
+    private final float[] ySpeed;
+    private final float[] radius;
+    private final int[] frame;
+    private final int[] phase;
+    private final boolean[] isVisible;
+    private final int[] label;
+    private LabelTable labels;
+    private int size;
+    private int animationTick;
+
+    /**
+     * Constructor. Allocates the storage for all the Sprites of a round.
+     *
+     * @param capacity the maximum number of Sprites that can be held
+     */
+    public SpriteStore (int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        xSpeed = new float[capacity];
+        ySpeed = new float[capacity];
+        radius = new float[capacity];
+        frame = new int[capacity];
+        phase = new int[capacity];
+        isVisible = new boolean[capacity];
+        label = new int[capacity];
+    }
+
+    /**
+     * Removes all Sprites
+     */
+    public void clear () {
+        size = 0;
+    }
+
+    /**
+     * Sets the table the labels of the Sprites are looked up in
+     *
+     * @param labels the labels of the round's elements
+     */
+    public void setLabels (LabelTable labels) {
+        this.labels = labels;
+    }
+
+    /**
+     * Adds a visible Sprite
+     *
+     * @param x           the X coordinate of the centre
+     * @param y           the Y coordinate of the centre
+     * @param xSpeed      the X direction speed, in pixels per second
+     * @param ySpeed      the Y direction speed, in pixels per second
+     * @param radius      the radius
+     * @param frame       the frame of the sprite sheet to display
+     * @param phase       how many ticks into the {@link FrameTable} cycle the Sprite starts
+     * @param label       the code of the text displayed on the Sprite
+     * @return the index of the new Sprite, or {@link #NO_SPRITE} if the store is full
+     */
+    public int add (float x, float y, float xSpeed, float ySpeed, float radius, int frame,
+                    int phase, int label) {
+        if (size == this.x.length) {
+            return NO_SPRITE;
+        }
+        int index = size++;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.previousX[index] = x;
+        this.previousY[index] = y;
+        this.xSpeed[index] = xSpeed;
+        this.ySpeed[index] = ySpeed;
+        this.radius[index] = radius;
+        this.frame[index] = frame;
+        this.phase[index] = phase;
+        this.isVisible[index] = true;
+        this.label[index] = label;
+        return index;
+    }
+
+    /**
+     * Gets the number of Sprites, visible or not
+     *
+     * @return the number of slots in use
+     */
+    public int size () {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of Sprites
+     *
+     * @return the capacity of the store
+     */
+    public int capacity () {
+        return x.length;
+    }
+
+    /**
+     * Starts a simulation tick for a Sprite by remembering where it was, for interpolation
+     *
+     * @param index the Sprite index
+     */
+    public void update (int index) {
+        previousX[index] = x[index];
+        previousY[index] = y[index];
+    }
+
+    /**
+     * Animates every Sprite by one tick. Sprites share the animation clock and only differ by the
+     * phase they started at.
+     */
+    public void animate () {
+        animationTick++;
+    }
+
+    /**
+     * Moves a Sprite during a simulation tick. Unlike {@link #setX(int, float)}, the position
+     * before the tick is kept for interpolation.
+     *
+     * @param index the Sprite index
+     * @param x     the new X coordinate of the centre
+     * @param y     the new Y coordinate of the centre
+     */
+    public void moveTo (int index, float x, float y) {
+        this.x[index] = x;
+        this.y[index] = y;
+    }
+
+    /**
+     * Checks to see if a Sprite has collided with another Sprite
+     *
+     * @param first  the index of the first Sprite
+     * @param second the index of the second Sprite
+     * @return true if the Sprites are distinct and overlap
+     */
+    public boolean isCollision (int first, int second) {
+        return first != second && isCollision(first, x[second], y[second], radius[second]);
+    }
+
+    /**
+     * Checks to see if a Sprite overlaps a circle
+     *
+     * @param index  the Sprite index
+     * @param x      the X coordinate of the circle's centre
+     * @param y      the Y coordinate of the circle's centre
+     * @param radius the radius of the circle, or 0 for a point
+     * @return true if the Sprite overlaps the circle
+     */
+    public boolean isCollision (int index, float x, float y, float radius) {
+        float dx = this.x[index] - x;
+        float dy = this.y[index] - y;
+        float reach = this.radius[index] + radius;
+        return dx * dx + dy * dy < reach * reach;
+    }
+
+    /**
+     * Gets the X coordinate of a Sprite at the end of the current tick
+     *
+     * @param index the Sprite index
+     * @return the X coordinate of the centre
+     */
+    public float getX (int index) {
+        return x[index];
+    }
+
+    /**
+     * Places a Sprite at an X coordinate. This is a jump rather than a move: the position before
+     * the tick is set too, so the next frame draws the Sprite there without interpolating. Use
+     * {@link #moveTo(int, float, float)} to move a Sprite during a tick.
+     *
+     * @param index the Sprite index
+     * @param x     the X coordinate of the centre
+     */
+    public void setX (int index, float x) {
+        this.x[index] = x;
+        this.previousX[index] = x;
+    }
+
+    /**
+     * Gets the Y coordinate of a Sprite at the end of the current tick
+     *
+     * @param index the Sprite index
+     * @return the Y coordinate of the centre
+     */
+    public float getY (int index) {
+        return y[index];
+    }
+
+    /**
+     * Places a Sprite at a Y coordinate. Like {@link #setX(int, float)}, the position before the
+     * tick is set too, cancelling any interpolation.
+     *
+     * @param index the Sprite index
+     * @param y     the Y coordinate of the centre
+     */
+    public void setY (int index, float y) {
+        this.y[index] = y;
+        this.previousY[index] = y;
+    }
+
+    /**
+     * Gets the X coordinate of a Sprite part way through the current tick
+     *
+     * @param index         the Sprite index
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
+     * @return the interpolated X coordinate
+     */
+    public float getX (int index, float interpolation) {
+        return previousX[index] + (x[index] - previousX[index]) * interpolation;
+    }
+
+    /**
+     * Gets the Y coordinate of a Sprite part way through the current tick
+     *
+     * @param index         the Sprite index
+     * @param interpolation fraction of a tick, between 0 and 1, elapsed since the last update
+     * @return the interpolated Y coordinate
+     */
+    public float getY (int index, float interpolation) {
+        return previousY[index] + (y[index] - previousY[index]) * interpolation;
+    }
+
+    /**
+     * Gets the X speed of a Sprite
+     *
+     * @param index the Sprite index
+     * @return the X direction speed, in pixels per second
+     */
+    public float getXSpeed (int index) {
+        return xSpeed[index];
+    }
+
+    /**
+     * Sets the X speed of a Sprite
+     *
+     * @param index  the Sprite index
+     * @param xSpeed the X direction speed, in pixels per second
+     */
+    public void setXSpeed (int index, float xSpeed) {
+        this.xSpeed[index] = xSpeed;
+    }
+
+    /**
+     * Gets the Y speed of a Sprite
+     *
+     * @param index the Sprite index
+     * @return the Y direction speed, in pixels per second
+     */
+    public float getYSpeed (int index) {
+        return ySpeed[index];
+    }
+
+    /**
+     * Sets the Y speed of a Sprite
+     *
+     * @param index  the Sprite index
+     * @param ySpeed the Y direction speed, in pixels per second
+     */
+    public void setYSpeed (int index, float ySpeed) {
+        this.ySpeed[index] = ySpeed;
+    }
+
+    /**
+     * Gets the radius of a Sprite
+     *
+     * @param index the Sprite index
+     * @return the radius
+     */
+    public float getRadius (int index) {
+        return radius[index];
+    }
+
+    /**
+     * Sets the radius of a Sprite
+     *
+     * @param index  the Sprite index
+     * @param radius the radius
+     */
+    public void setRadius (int index, float radius) {
+        this.radius[index] = radius;
+    }
+
+    /**
+     * Gets the frame of the sprite sheet a Sprite displays
+     *
+     * @param index the Sprite index
+     * @return the frame
+     */
+    public int getFrame (int index) {
+        return frame[index];
+    }
+
+    /**
+     * Gets how far the Sprite is through its animation, to look up in a {@link FrameTable}
+     *
+     * @param index the Sprite index
+     * @return ticks into the animation, never negative
+     */
+    public int getPhase (int index) {
+        return (animationTick + phase[index]) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the text displayed on a Sprite
+     *
+     * @param index the Sprite index
+     * @return the interned label of the Sprite's code
+     */
+    public String getText (int index) {
+        return labels.get(label[index]);
+    }
+
+    /**
+     * Gets the code of the text displayed on a Sprite
+     *
+     * @param index the Sprite index
+     * @return the code in the round's {@link LabelTable}
+     */
+    public int getLabel (int index) {
+        return label[index];
+    }
+
+    /**
+     * Sets the code of the text displayed on a Sprite
+     *
+     * @param index the Sprite index
+     * @param label the code in the round's {@link LabelTable}
+     */
+    public void setLabel (int index, int label) {
+        this.label[index] = label;
+    }
+
+    /**
+     * Gets the visibility state of a Sprite
+     *
+     * @param index the Sprite index
+     * @return false once the Sprite has been popped
+     */
+    public boolean getVisibility (int index) {
+        return isVisible[index];
+    }
+
+    /**
+     * Sets the visibility of a Sprite. An invisible Sprite keeps its index.
+     *
+     * @param index     the Sprite index
+     * @param isVisible true to show the Sprite
+     */
+    public void setVisibility (int index, boolean isVisible) {
+        this.isVisible[index] = isVisible;
+    }
+}
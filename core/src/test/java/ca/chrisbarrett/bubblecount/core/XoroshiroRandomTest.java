@@ -0,0 +1,98 @@
+package ca.chrisbarrett.bubblecount.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link XoroshiroRandom}: the same seed must give the same stream, and
+ * reseeding from {@link XoroshiroRandom#deriveSeed(long, int)} must restart a round's stream.
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class XoroshiroRandomTest {
+
+    private static final long SEED = 1234L;
+
+    @Test
+    public void sameSeed_givesSameStream () {
+        XoroshiroRandom first = new XoroshiroRandom(SEED);
+        XoroshiroRandom second = new XoroshiroRandom(SEED);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    public void differentSeeds_giveDifferentStreams () {
+        assertNotEquals(new XoroshiroRandom(SEED).nextLong(), new XoroshiroRandom(SEED + 1).nextLong());
+    }
+
+    @Test
+    public void setSeed_restartsStream () {
+        XoroshiroRandom random = new XoroshiroRandom(SEED);
+        long first = random.nextLong();
+        random.nextLong();
+        random.setSeed(SEED);
+        assertEquals(first, random.nextLong());
+    }
+
+    @Test
+    public void deriveSeed_reseedsEachRoundIndependently () {
+        // round 3 drawn after rounds 1 and 2 matches round 3 drawn on its own
+        XoroshiroRandom played = new XoroshiroRandom(SEED);
+        int[] round3 = null;
+        for (int round = 1; round <= 3; round++) {
+            played.setSeed(XoroshiroRandom.deriveSeed(SEED, round));
+            round3 = draw(played);
+        }
+        XoroshiroRandom replayed = new XoroshiroRandom(0);
+        replayed.setSeed(XoroshiroRandom.deriveSeed(SEED, 3));
+        assertArrayEquals(round3, draw(replayed));
+    }
+
+    @Test
+    public void deriveSeed_differsBetweenRounds () {
+        assertNotEquals(XoroshiroRandom.deriveSeed(SEED, 1), XoroshiroRandom.deriveSeed(SEED, 2));
+        assertNotEquals(XoroshiroRandom.deriveSeed(SEED, 1), XoroshiroRandom.deriveSeed(SEED + 1, 1));
+    }
+
+    @Test
+    public void nextInt_staysWithinBound () {
+        XoroshiroRandom random = new XoroshiroRandom(SEED);
+        int[] counts = new int[7];
+        for (int i = 0; i < 7000; i++) {
+            counts[random.nextInt(7)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 0);
+        }
+    }
+
+    @Test
+    public void nextFloatAndDouble_areInUnitInterval () {
+        XoroshiroRandom random = new XoroshiroRandom(SEED);
+        for (int i = 0; i < 1000; i++) {
+            float f = random.nextFloat();
+            double d = random.nextDouble();
+            assertTrue(f >= 0 && f < 1);
+            assertTrue(d >= 0 && d < 1);
+        }
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to draw a few values the way a round does
+     */
+    private static int[] draw (XoroshiroRandom random) {
+        int[] values = new int[16];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,106 @@
+package ca.chrisbarrett.bubblecount.game;
+
+import org.junit.Test;
+
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link QuestionPool}, and for the pools the engines build from it
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class QuestionPoolTest {
+
+    @Test
+    public void answers_coverRequestedRange () {
+        QuestionPool pool = new QuestionPool(LabelTable.ofNumbers(1, 30), 3, 9, 4);
+        assertEquals(7, pool.size());
+        for (int question = 0; question < pool.size(); question++) {
+            assertEquals(3 + question, pool.getAnswer(question));
+        }
+        assertEquals("1  2  3  ?", pool.getQuestion(0));
+        assertEquals("7  8  9  ?", pool.getQuestion(6));
+    }
+
+    @Test
+    public void distractors_areEveryOtherLabel () {
+        LabelTable labels = LabelTable.ofCharacters('A', 'Z');
+        QuestionPool pool = new QuestionPool(labels, 3, 25, QuestionPool.DEFAULT_VARIANTS);
+        assertEquals(labels.size() - 1, pool.getDistractorCount());
+        for (int question = 0; question < pool.size(); question++) {
+            for (int variant = 0; variant < pool.getVariants(); variant++) {
+                boolean[] seen = new boolean[labels.size()];
+                for (int code : pool.getDistractors(question, variant)) {
+                    assertNotEquals(pool.getAnswer(question), code);
+                    assertFalse(seen[code]);
+                    seen[code] = true;
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void answerWithoutLeadingLabels_isRejected () {
+        new QuestionPool(LabelTable.ofNumbers(1, 30), 2, 9, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void answerOutsideLabels_isRejected () {
+        new QuestionPool(LabelTable.ofNumbers(1, 10), 3, 10, 1);
+    }
+
+    @Test
+    public void countEngine_answersFollowAgeBand () {
+        assertAnswers(new CountGameEngine(5), 4, 10);
+        assertAnswers(new CountGameEngine(6), 4, 20);
+        assertAnswers(new CountGameEngine(8), 4, 30);
+    }
+
+    @Test
+    public void alphabetEngine_answersSkipLeadingLetters () {
+        assertAnswers(new AlphabetGameEngine(), 'D', 'Z');
+    }
+
+    @Test
+    public void noRepeat_asksEveryQuestionOnce () {
+        GameEngine engine = new AlphabetGameEngine();
+        engine.setRandomSource(new XoroshiroRandom(3));
+        engine.setNoRepeat(true);
+        int size = engine.getQuestionPool().size();
+        boolean[] asked = new boolean[engine.getLabels().size()];
+        for (int i = 0; i < size; i++) {
+            engine.randomize();
+            assertFalse(asked[engine.getCorrectCode()]);
+            asked[engine.getCorrectCode()] = true;
+        }
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to check every answer of an engine's pool lies in a range of values, given as
+     * numbers or characters, and that its question is the three values before it
+     */
+    private static void assertAnswers (GameEngine engine, int minValue, int maxValue) {
+        QuestionPool pool = engine.getQuestionPool();
+        LabelTable labels = pool.getLabels();
+        assertEquals(maxValue - minValue + 1, pool.size());
+        for (int question = 0; question < pool.size(); question++) {
+            int answer = pool.getAnswer(question);
+            assertEquals(valueOf(labels.get(answer)), minValue + question);
+            assertTrue(pool.getQuestion(question).startsWith(labels.get(answer - 3) + "  "));
+        }
+    }
+
+    /**
+     * Helper method to read a label as a number, or as a character
+     */
+    private static int valueOf (String label) {
+        return Character.isDigit(label.charAt(0)) ? Integer.parseInt(label) : label.charAt(0);
+    }
+}
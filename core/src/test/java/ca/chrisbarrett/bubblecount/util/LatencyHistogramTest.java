@@ -0,0 +1,107 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the bucket bounds and percentiles of {@link LatencyHistogram}
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class LatencyHistogramTest {
+
+    private static final long NANOS_PER_MICRO = 1000;
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setUp () {
+        histogram = new LatencyHistogram("test");
+    }
+
+    @Test
+    public void empty_reportsZero () {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void smallLatencies_haveExactBuckets () {
+        // below SUB_BUCKETS microseconds every microsecond has its own bucket
+        for (long micros = 0; micros < LatencyHistogram.SUB_BUCKETS; micros++) {
+            histogram.reset();
+            histogram.record(micros * NANOS_PER_MICRO);
+            histogram.record(LatencyHistogram.SUB_BUCKETS * 10 * NANOS_PER_MICRO);
+            long p50 = histogram.getPercentile(50);
+            assertTrue(p50 >= micros * NANOS_PER_MICRO);
+            assertTrue(p50 < (micros + 1) * NANOS_PER_MICRO);
+        }
+    }
+
+    @Test
+    public void percentile_isWithinBucketPrecision () {
+        long[] latencies = {50 * NANOS_PER_MICRO, 3 * NANOS_PER_MILLI, 17 * NANOS_PER_MILLI, 250 * NANOS_PER_MILLI};
+        for (long latency : latencies) {
+            histogram.reset();
+            histogram.record(latency);
+            histogram.record(LatencyHistogram.MAX_MICROS * 2 * NANOS_PER_MICRO);
+            long p50 = histogram.getPercentile(50);
+            // the bucket holding a value reports its top, at most 12.5% above it
+            assertTrue(p50 >= latency);
+            assertTrue(p50 <= latency + latency / 8 + NANOS_PER_MICRO);
+        }
+    }
+
+    @Test
+    public void percentiles_followDistribution () {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * NANOS_PER_MILLI);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100 * NANOS_PER_MILLI, histogram.getMax());
+        assertEquals(50 * NANOS_PER_MILLI, histogram.getPercentile(50), 50 * NANOS_PER_MILLI / 8);
+        assertEquals(90 * NANOS_PER_MILLI, histogram.getPercentile(90), 90 * NANOS_PER_MILLI / 8);
+        assertTrue(histogram.getPercentile(50) <= histogram.getPercentile(90));
+        assertTrue(histogram.getPercentile(90) <= histogram.getPercentile(99));
+        assertEquals(histogram.getMax(), histogram.getPercentile(100));
+    }
+
+    @Test
+    public void percentile_neverExceedsMax () {
+        histogram.record(1234567);
+        assertEquals(1234567, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void largeLatencies_areCountedInLastBucket () {
+        long huge = LatencyHistogram.MAX_MICROS * 10 * NANOS_PER_MICRO;
+        histogram.record(huge);
+        assertEquals(1, histogram.getCount());
+        assertEquals(huge, histogram.getMax());
+        // the last bucket starts at MAX_MICROS, and reports no more than the largest latency
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 >= LatencyHistogram.MAX_MICROS * NANOS_PER_MICRO);
+        assertTrue(p50 <= huge);
+    }
+
+    @Test
+    public void negativeLatency_isCountedAsZero () {
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void reset_forgetsEverything () {
+        histogram.record(NANOS_PER_MILLI);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+}
@@ -0,0 +1,84 @@
+package ca.chrisbarrett.bubblecount.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ring buffer of {@link TouchQueue}, single threaded
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class TouchQueueTest {
+
+    @Test
+    public void poll_returnsTouchesInOrder () {
+        TouchQueue queue = new TouchQueue(4);
+        assertTrue(queue.offer(1, 2, 3));
+        assertTrue(queue.offer(4, 5, 6));
+        assertTrue(queue.poll());
+        assertEquals(1, queue.getX(), 0);
+        assertEquals(2, queue.getY(), 0);
+        assertEquals(3, queue.getTime());
+        assertTrue(queue.poll());
+        assertEquals(4, queue.getX(), 0);
+        assertFalse(queue.poll());
+    }
+
+    @Test
+    public void offer_dropsWhenFull () {
+        TouchQueue queue = new TouchQueue(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i, i, i));
+        }
+        assertFalse(queue.offer(99, 99, 99));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.poll());
+            assertEquals(i, queue.getTime());
+        }
+        assertFalse(queue.poll());
+    }
+
+    @Test
+    public void capacity_isRoundedUpToPowerOfTwo () {
+        TouchQueue queue = new TouchQueue(3);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i, i, i));
+        }
+        assertFalse(queue.offer(4, 4, 4));
+    }
+
+    @Test
+    public void indices_wrapAround () {
+        // many more touches than slots, so both indices wrap the buffer many times
+        TouchQueue queue = new TouchQueue(4);
+        long next = 0;
+        for (long i = 0; i < 1000; i++) {
+            assertTrue(queue.offer(i, -i, i));
+            if (i % 3 == 2) {
+                while (queue.poll()) {
+                    assertEquals(next, queue.getTime());
+                    assertEquals(-next, queue.getY(), 0);
+                    next++;
+                }
+            }
+        }
+        while (queue.poll()) {
+            assertEquals(next++, queue.getTime());
+        }
+        assertEquals(1000, next);
+    }
+
+    @Test
+    public void clear_discardsWaitingTouches () {
+        TouchQueue queue = new TouchQueue(4);
+        queue.offer(1, 1, 1);
+        queue.offer(2, 2, 2);
+        queue.clear();
+        assertFalse(queue.poll());
+        assertTrue(queue.offer(3, 3, 3));
+        assertTrue(queue.poll());
+        assertEquals(3, queue.getTime());
+    }
+}
@@ -0,0 +1,101 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link BubblePhysics}: collisions must conserve momentum and kinetic energy, and
+ * walls must keep Sprites inside the area
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class BubblePhysicsTest {
+
+    private static final float SIZE = 10000;
+    private static final float TICK = 1f / 60;
+    private static final float EPSILON = 1e-3f;
+
+    @Test
+    public void headOnCollision_conservesMomentumAndEnergy () {
+        SpriteStore sprites = new SpriteStore(2);
+        // overlapping and approaching, of different masses
+        sprites.add(5000, 5000, 300, 0, 40, 0, 0, 0);
+        sprites.add(5060, 5000, -100, 0, 20, 0, 0, 0);
+        assertConserved(sprites);
+    }
+
+    @Test
+    public void glancingCollision_conservesMomentumAndEnergy () {
+        SpriteStore sprites = new SpriteStore(2);
+        sprites.add(5000, 5000, 250, 120, 30, 0, 0, 0);
+        sprites.add(5040, 5030, -180, -60, 30, 0, 0, 0);
+        assertConserved(sprites);
+    }
+
+    @Test
+    public void separatingSprites_keepTheirVelocities () {
+        SpriteStore sprites = new SpriteStore(2);
+        sprites.add(5000, 5000, -100, 0, 30, 0, 0, 0);
+        sprites.add(5040, 5000, 100, 0, 30, 0, 0, 0);
+        step(sprites);
+        assertEquals(-100, sprites.getXSpeed(0), EPSILON);
+        assertEquals(100, sprites.getXSpeed(1), EPSILON);
+    }
+
+    @Test
+    public void wall_reflectsSpriteInsideArea () {
+        SpriteStore sprites = new SpriteStore(1);
+        float radius = 30;
+        sprites.add(radius + 1, 500, -600, 0, radius, 0, 0, 0);
+        step(sprites);
+        assertTrue(sprites.getX(0) >= radius);
+        assertTrue(sprites.getXSpeed(0) > 0);
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to step two colliding Sprites, far from any wall, and check that momentum and
+     * kinetic energy, with mass proportional to area, are unchanged
+     */
+    private static void assertConserved (SpriteStore sprites) {
+        float[] before = totals(sprites);
+        step(sprites);
+        float[] after = totals(sprites);
+        // the step must have exchanged some velocity for the test to mean anything
+        assertNotEquals(before[3], sprites.getXSpeed(0) * sprites.getXSpeed(0), EPSILON);
+        assertEquals(before[0], after[0], Math.abs(before[0]) * 1e-5f + EPSILON);
+        assertEquals(before[1], after[1], Math.abs(before[1]) * 1e-5f + EPSILON);
+        assertEquals(before[2], after[2], before[2] * 1e-5f);
+    }
+
+    /**
+     * Helper method to total the X momentum, Y momentum and kinetic energy of two Sprites, and
+     * remember the first Sprite's squared X speed
+     */
+    private static float[] totals (SpriteStore sprites) {
+        float[] totals = new float[4];
+        for (int i = 0; i < 2; i++) {
+            float mass = sprites.getRadius(i) * sprites.getRadius(i);
+            float xSpeed = sprites.getXSpeed(i);
+            float ySpeed = sprites.getYSpeed(i);
+            totals[0] += mass * xSpeed;
+            totals[1] += mass * ySpeed;
+            totals[2] += mass * (xSpeed * xSpeed + ySpeed * ySpeed) / 2;
+        }
+        totals[3] = sprites.getXSpeed(0) * sprites.getXSpeed(0);
+        return totals;
+    }
+
+    /**
+     * Helper method to run one tick over a large area
+     */
+    private static void step (SpriteStore sprites) {
+        SpatialHash spatialHash = new SpatialHash(sprites, SIZE, SIZE, 100);
+        new BubblePhysics(SIZE, SIZE, sprites.capacity()).step(sprites, spatialHash, TICK);
+    }
+}
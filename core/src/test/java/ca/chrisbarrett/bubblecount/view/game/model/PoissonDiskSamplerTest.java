@@ -0,0 +1,65 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import org.junit.Test;
+
+import ca.chrisbarrett.bubblecount.core.XoroshiroRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link PoissonDiskSampler}: points must stay inside the area and never be
+ * closer than the minimum distance
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class PoissonDiskSamplerTest {
+
+    private static final float WIDTH = 1200;
+    private static final float HEIGHT = 800;
+    private static final float MIN_DISTANCE = 60;
+
+    @Test
+    public void points_keepMinimumDistance () {
+        for (long seed = 0; seed < 5; seed++) {
+            PoissonDiskSampler sampler = new PoissonDiskSampler(WIDTH, HEIGHT, MIN_DISTANCE,
+                    PoissonDiskSampler.DEFAULT_CANDIDATES, new XoroshiroRandom(seed));
+            int count = sampler.sample(Integer.MAX_VALUE);
+            assertTrue(count > 1);
+            float[] x = sampler.getX();
+            float[] y = sampler.getY();
+            for (int i = 0; i < count; i++) {
+                assertTrue(x[i] >= 0 && x[i] <= WIDTH);
+                assertTrue(y[i] >= 0 && y[i] <= HEIGHT);
+                for (int j = i + 1; j < count; j++) {
+                    float dx = x[i] - x[j];
+                    float dy = y[i] - y[j];
+                    assertTrue("points " + i + " and " + j + " too close",
+                            dx * dx + dy * dy >= MIN_DISTANCE * MIN_DISTANCE * 0.9999f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sample_honoursMaxPoints () {
+        PoissonDiskSampler sampler = new PoissonDiskSampler(WIDTH, HEIGHT, MIN_DISTANCE,
+                PoissonDiskSampler.DEFAULT_CANDIDATES, new XoroshiroRandom(1));
+        assertEquals(10, sampler.sample(10));
+        assertEquals(0, sampler.sample(0));
+    }
+
+    @Test
+    public void sameSeed_givesSameLayout () {
+        PoissonDiskSampler first = new PoissonDiskSampler(WIDTH, HEIGHT, MIN_DISTANCE,
+                PoissonDiskSampler.DEFAULT_CANDIDATES, new XoroshiroRandom(7));
+        PoissonDiskSampler second = new PoissonDiskSampler(WIDTH, HEIGHT, MIN_DISTANCE,
+                PoissonDiskSampler.DEFAULT_CANDIDATES, new XoroshiroRandom(7));
+        int count = first.sample(Integer.MAX_VALUE);
+        assertEquals(count, second.sample(Integer.MAX_VALUE));
+        for (int i = 0; i < count; i++) {
+            assertEquals(first.getX()[i], second.getX()[i], 0);
+            assertEquals(first.getY()[i], second.getY()[i], 0);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ca.chrisbarrett.bubblecount.view.game.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the queries of {@link SpatialHash}, and for Sprites leaving the grid, either
+ * by being hidden or by the grid being cleared
+ *
+ * @author Chris Barrett
+ * @since Oct 17, 2026
+ */
+public class SpatialHashTest {
+
+    private static final float SIZE = 1000;
+    private static final float RADIUS = 20;
+
+    private SpriteStore sprites;
+    private SpatialHash spatialHash;
+
+    @Before
+    public void setUp () {
+        sprites = new SpriteStore(8);
+        spatialHash = new SpatialHash(sprites, SIZE, SIZE, RADIUS * 2);
+    }
+
+    @Test
+    public void findAt_findsSpriteCoveringPoint () {
+        int near = add(100, 100);
+        int far = add(800, 800);
+        assertEquals(near, spatialHash.findAt(110, 95));
+        assertEquals(far, spatialHash.findAt(800, 790));
+        assertEquals(SpriteStore.NO_SPRITE, spatialHash.findAt(500, 500));
+    }
+
+    @Test
+    public void findAt_searchesNeighbouringCells () {
+        // centre just across a cell boundary from the point touched
+        int index = add(RADIUS * 2 + 1, RADIUS * 2 + 1);
+        assertEquals(index, spatialHash.findAt(RADIUS * 2 - 5, RADIUS * 2 - 5));
+    }
+
+    @Test
+    public void hiddenSprite_isNotFound () {
+        int index = add(100, 100);
+        sprites.setVisibility(index, false);
+        assertEquals(SpriteStore.NO_SPRITE, spatialHash.findAt(100, 100));
+    }
+
+    @Test
+    public void hiddenSprite_revealsSpriteBeneath () {
+        int top = add(100, 100);
+        int beneath = add(110, 100);
+        int found = spatialHash.findAt(105, 100);
+        assertTrue(found == top || found == beneath);
+        sprites.setVisibility(found, false);
+        assertEquals(found == top ? beneath : top, spatialHash.findAt(105, 100));
+    }
+
+    @Test
+    public void clear_removesEverySprite () {
+        add(100, 100);
+        add(300, 300);
+        spatialHash.clear();
+        assertEquals(SpriteStore.NO_SPRITE, spatialHash.findAt(100, 100));
+        assertFalse(spatialHash.isColliding(300, 300, RADIUS));
+    }
+
+    @Test
+    public void isColliding_testsOverlapOnly () {
+        add(100, 100);
+        assertTrue(spatialHash.isColliding(100 + RADIUS * 2 - 1, 100, RADIUS));
+        assertFalse(spatialHash.isColliding(100 + RADIUS * 2 + 1, 100, RADIUS));
+    }
+
+    @Test
+    public void getCollisions_reportsEachPairOnce () {
+        int first = add(100, 100);
+        int second = add(130, 100);
+        int third = add(160, 100);
+        add(600, 600);
+        int[] results = new int[8];
+        int pairs = 0;
+        for (int i = 0; i < sprites.size(); i++) {
+            int count = spatialHash.getCollisions(i, results);
+            for (int j = 0; j < count; j++) {
+                assertTrue(results[j] > i);
+            }
+            pairs += count;
+        }
+        // first and third are 60 apart, beyond a diameter
+        assertEquals(2, pairs);
+        assertEquals(1, spatialHash.getCollisions(first, results));
+        assertEquals(second, results[0]);
+        assertEquals(1, spatialHash.getCollisions(second, results));
+        assertEquals(third, results[0]);
+    }
+
+    //
+    // Helper methods begin here
+    //
+
+    /**
+     * Helper method to add a still Sprite and file it in the grid
+     */
+    private int add (float x, float y) {
+        int index = sprites.add(x, y, 0, 0, RADIUS, 0, 0, 0);
+        spatialHash.insert(index);
+        return index;
+    }
+}